@@ -0,0 +1,45 @@
+package algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API equality count. Needs JDK 17+ and --add-modules
+// jdk.incubator.vector; callers reach it through VectorizedCount, which
+// falls back to the scalar kernel when either is missing.
+public final class IntVectorKernels {
+    
+    static final VectorSpecies<Integer> PREFERRED = IntVector.SPECIES_PREFERRED;
+    
+    private IntVectorKernels() {
+    }
+    
+    public static int count(int[] nums, int from, int to, int value) {
+        return count(PREFERRED, nums, from, to, value);
+    }
+    
+    // Lane-wise counters are bumped under the compare mask and reduced once
+    // at the end, so the loop carries no horizontal operation. A lane sees at
+    // most length / lanes matches, which always fits an int.
+    public static int count(VectorSpecies<Integer> species, int[] nums, int from, int to, int value) {
+        IntVector counts = IntVector.zero(species);
+        int i = from;
+        int bound = from + species.loopBound(to - from);
+        for (; i < bound; i += species.length()) {
+            VectorMask<Integer> equal = IntVector.fromArray(species, nums, i).eq(value);
+            counts = counts.add(1, equal);
+        }
+        int count = counts.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            if (nums[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    public static String describe() {
+        return PREFERRED.toString();
+    }
+}
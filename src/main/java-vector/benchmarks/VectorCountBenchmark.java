@@ -0,0 +1,87 @@
+package benchmarks;
+
+import algorithms.IntVectorKernels;
+import algorithms.MajorityKernels;
+import algorithms.VectorizedCount;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Verification count per vector width. 64..256 bits are native on SSE/AVX2
+// and NEON (256 is split in two on 128-bit NEON); "preferred" is whatever
+// the running CPU reports. Scalar and unrolled counts are the baselines.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class VectorCountBenchmark {
+    
+    @Param({"10000", "1000000"})
+    private int size;
+    
+    @Param({"64", "128", "256", "preferred"})
+    private String width;
+    
+    private int[] data;
+    private VectorSpecies<Integer> species;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        data = new int[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = random.nextInt(10) < 6 ? 7 : random.nextInt(1000);
+        }
+        switch (width) {
+            case "64":
+                species = IntVector.SPECIES_64;
+                break;
+            case "128":
+                species = IntVector.SPECIES_128;
+                break;
+            case "256":
+                species = IntVector.SPECIES_256;
+                break;
+            default:
+                species = IntVector.SPECIES_PREFERRED;
+                break;
+        }
+    }
+    
+    @Benchmark
+    public int vectorCount() {
+        return IntVectorKernels.count(species, data, 0, data.length, 7);
+    }
+    
+    @Benchmark
+    public int dispatchedCount() {
+        return VectorizedCount.count(data, 0, data.length, 7);
+    }
+    
+    @Benchmark
+    public int scalarCount() {
+        return MajorityKernels.count(data, 0, data.length, 7);
+    }
+    
+    @Benchmark
+    public int unrolledCount() {
+        return MajorityKernels.countUnrolled(data, 0, data.length, 7);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(VectorCountBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,269 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+// Samples the input (size, value range, sortedness) and dispatches to the
+// engine expected to be fastest. Every strategy returns the exact majority.
+public class AdaptiveMajoritySelector {
+
+    public enum Strategy {
+        BOYER_MOORE,
+        COUNTING_TABLE,
+        SORTED_RUN,
+        PARALLEL
+    }
+
+    static final int SAMPLE_POINTS = 64;
+    static final int MIN_SAMPLED_SIZE = 256;
+    static final String FORCED_PREFIX = "strategy:";
+    static final String ADAPTIVE_PREFIX = "adaptive:";
+    // Appended to the input type when a strategy hands over to Boyer-Moore,
+    // e.g. "adaptive:COUNTING_TABLE>BOYER_MOORE".
+    static final String FALLBACK_SUFFIX = ">" + Strategy.BOYER_MOORE;
+
+    private PerformanceTracker tracker;
+    private int parallelThreshold = 1 << 20;
+    private int countingTableMaxRange = 1 << 12;
+    private Strategy lastStrategy;
+
+    public AdaptiveMajoritySelector() {
+        this.tracker = new PerformanceTracker("Adaptive Majority Selector");
+    }
+
+    public Strategy choose(int[] nums) {
+        int n = nums.length;
+        if (n < MIN_SAMPLED_SIZE) {
+            return Strategy.BOYER_MOORE;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        boolean sorted = true;
+        int previous = Integer.MIN_VALUE;
+        for (int s = 0; s < SAMPLE_POINTS; s++) {
+            int value = nums[(int) ((long) s * (n - 1) / (SAMPLE_POINTS - 1))];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            sorted &= value >= previous;
+            previous = value;
+        }
+
+        if (sorted) {
+            return Strategy.SORTED_RUN;
+        }
+        if (n >= parallelThreshold) {
+            return Strategy.PARALLEL;
+        }
+        if ((long) max - min < countingTableMaxRange) {
+            return Strategy.COUNTING_TABLE;
+        }
+        return Strategy.BOYER_MOORE;
+    }
+
+    public Integer findMajorityElement(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        return run(nums, choose(nums), ADAPTIVE_PREFIX);
+    }
+
+    public Integer findMajorityElement(int[] nums, Strategy strategy) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        return run(nums, strategy, FORCED_PREFIX);
+    }
+
+    private Integer run(int[] nums, Strategy strategy, String prefix) {
+        tracker.reset();
+        tracker.setInputCharacteristics(nums.length, prefix + strategy);
+        tracker.startTiming();
+
+        lastStrategy = strategy;
+        Integer result;
+        switch (strategy) {
+            case COUNTING_TABLE:
+                result = countingTable(nums);
+                break;
+            case SORTED_RUN:
+                result = sortedRun(nums);
+                break;
+            case PARALLEL:
+                result = MajorityKernels.parallelMajority(nums);
+                tracker.addArrayAccesses(2L * nums.length);
+                tracker.addComparisons(2L * nums.length);
+                break;
+            default:
+                result = boyerMoore(nums);
+                break;
+        }
+
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    private Integer boyerMoore(int[] nums) {
+        int candidate = MajorityKernels.candidate(nums, 0, nums.length);
+        int count = MajorityKernels.count(nums, 0, nums.length, candidate);
+        tracker.addArrayAccesses(2L * nums.length);
+        tracker.addComparisons(2L * nums.length);
+        return count > nums.length / 2 ? candidate : null;
+    }
+
+    // One pass over a small dense table, stopping as soon as a value passes
+    // n / 2. A value outside the sampled range means the sample was wrong,
+    // so the work done so far is abandoned in favour of Boyer-Moore.
+    private Integer countingTable(int[] nums) {
+        int min = nums[0];
+        int max = nums[0];
+        for (int s = 0; s < SAMPLE_POINTS; s++) {
+            int value = nums[(int) ((long) s * (nums.length - 1) / (SAMPLE_POINTS - 1))];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        long range = (long) max - min + 1;
+        if (range > countingTableMaxRange) {
+            return fallBack(nums);
+        }
+
+        int[] counts = new int[(int) range];
+        tracker.incrementMemoryAllocation();
+        int majority = nums.length / 2;
+        for (int i = 0; i < nums.length; i++) {
+            int slot = nums[i] - min;
+            if (slot < 0 || slot >= counts.length) {
+                tracker.addArrayAccesses(i + 1);
+                return fallBack(nums);
+            }
+            if (++counts[slot] > majority) {
+                tracker.addArrayAccesses(i + 1);
+                return nums[i];
+            }
+        }
+        tracker.addArrayAccesses(nums.length);
+        return null;
+    }
+
+    // In sorted data a majority must cover the middle index. Expanding the
+    // run around it touches only the run itself and is exact even if the
+    // sample lied about sortedness; a short run falls back to Boyer-Moore.
+    private Integer sortedRun(int[] nums) {
+        int middle = nums.length / 2;
+        int value = nums[middle];
+        int lo = middle;
+        int hi = middle + 1;
+        while (lo > 0 && nums[lo - 1] == value) {
+            lo--;
+        }
+        while (hi < nums.length && nums[hi] == value) {
+            hi++;
+        }
+        tracker.addArrayAccesses(hi - lo + 2);
+        tracker.addComparisons(hi - lo + 2);
+        if (hi - lo > nums.length / 2) {
+            return value;
+        }
+        return fallBack(nums);
+    }
+
+    private Integer fallBack(int[] nums) {
+        tracker.setInputCharacteristics(nums.length, tracker.getInputType() + FALLBACK_SUFFIX);
+        return boyerMoore(nums);
+    }
+
+    // Calibrates the parallel cut-over from forced-strategy results
+    // ("strategy:PARALLEL" vs "strategy:BOYER_MOORE"): the threshold becomes
+    // the smallest size from which the parallel median wins at every size.
+    public boolean calibrate(List<PerformanceTracker.PerformanceResult> results) {
+        Map<Long, List<Long>> parallel = new TreeMap<>();
+        Map<Long, List<Long>> sequential = new TreeMap<>();
+        for (PerformanceTracker.PerformanceResult result : results) {
+            if ((FORCED_PREFIX + Strategy.PARALLEL).equals(result.inputType)) {
+                parallel.computeIfAbsent(result.inputSize, k -> new ArrayList<>()).add(result.executionTimeNs);
+            } else if ((FORCED_PREFIX + Strategy.BOYER_MOORE).equals(result.inputType)) {
+                sequential.computeIfAbsent(result.inputSize, k -> new ArrayList<>()).add(result.executionTimeNs);
+            }
+        }
+
+        Long threshold = null;
+        for (Map.Entry<Long, List<Long>> entry : parallel.entrySet()) {
+            List<Long> baseline = sequential.get(entry.getKey());
+            if (baseline == null) {
+                continue;
+            }
+            if (median(entry.getValue()) < median(baseline)) {
+                if (threshold == null) {
+                    threshold = entry.getKey();
+                }
+            } else {
+                threshold = null;
+            }
+        }
+        if (threshold == null) {
+            return false;
+        }
+        parallelThreshold = (int) Math.min(Integer.MAX_VALUE, threshold);
+        return true;
+    }
+
+    // Produces the forced-strategy results calibrate() consumes.
+    public List<PerformanceTracker.PerformanceResult> runCalibration(int[] sizes, int repetitions) {
+        List<PerformanceTracker.PerformanceResult> results = new ArrayList<>();
+        Random random = new Random(42);
+        for (int size : sizes) {
+            int[] data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(10) < 6 ? 7 : random.nextInt();
+            }
+            for (Strategy strategy : new Strategy[] {Strategy.BOYER_MOORE, Strategy.PARALLEL}) {
+                for (int r = 0; r < repetitions; r++) {
+                    findMajorityElement(data, strategy);
+                    results.add(lastResult(strategy, size));
+                }
+            }
+        }
+        return results;
+    }
+
+    private PerformanceTracker.PerformanceResult lastResult(Strategy strategy, int size) {
+        return new PerformanceTracker.PerformanceResult("Adaptive Majority Selector", size, FORCED_PREFIX + strategy,
+            tracker.getArrayAccesses(), tracker.getComparisons(), tracker.getMemoryAllocations(),
+            tracker.getExecutionTimeNs(), tracker.getAllocatedBytes(), tracker.getGcCount(), tracker.getGcTimeMs());
+    }
+
+    private static long median(List<Long> values) {
+        long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    public Strategy getLastStrategy() {
+        return lastStrategy;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public AdaptiveMajoritySelector withParallelThreshold(int threshold) {
+        this.parallelThreshold = threshold;
+        return this;
+    }
+
+    public AdaptiveMajoritySelector withCountingTableMaxRange(int range) {
+        this.countingTableMaxRange = range;
+        return this;
+    }
+
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+}
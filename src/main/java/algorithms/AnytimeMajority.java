@@ -0,0 +1,252 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// Time-budgeted majority. The array is visited in page-sized blocks in a
+// random block order, and the deadline is checked between blocks. The first
+// block nominates an early candidate whose count is kept alongside the full
+// vote, so a verified majority usually costs one pass (not two), and a
+// deadline hit still leaves a uniform sample of blocks to report on.
+public class AnytimeMajority {
+
+    public enum Status {
+        // Exact: the candidate is the majority, or null when there is none.
+        VERIFIED,
+        // The candidate was counted over a random fraction of the blocks.
+        PARTIALLY_VERIFIED,
+        // The deadline hit before any count of the reported candidate.
+        UNKNOWN
+    }
+
+    static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final Random random;
+    private final int blockSize;
+    private final LongSupplier clock;
+    private PerformanceTracker tracker;
+
+    public AnytimeMajority() {
+        this(new Random(), DEFAULT_BLOCK_SIZE, System::nanoTime);
+    }
+
+    public AnytimeMajority(long seed) {
+        this(new Random(seed), DEFAULT_BLOCK_SIZE, System::nanoTime);
+    }
+
+    AnytimeMajority(Random random, int blockSize, LongSupplier clock) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.random = random;
+        this.blockSize = blockSize;
+        this.clock = clock;
+        this.tracker = new PerformanceTracker("Anytime Boyer-Moore Majority Vote");
+    }
+
+    public Result findMajorityElement(int[] nums, long budget, TimeUnit unit) {
+        if (nums == null || nums.length == 0) {
+            return new Result(null, Status.VERIFIED, 1.0, 0, 0, 0);
+        }
+        long deadline = clock.getAsLong() + unit.toNanos(budget);
+        int n = nums.length;
+        int majority = n / 2;
+
+        tracker.reset();
+        tracker.setInputCharacteristics(n, "anytime");
+        tracker.startTiming();
+
+        int blocks = (n + blockSize - 1) / blockSize;
+        int[] order = new int[blocks];
+        tracker.incrementMemoryAllocation();
+
+        // The first block is always processed, so every answer has a candidate.
+        int first = nextBlock(order, 0);
+        int early = MajorityKernels.candidate(nums, blockStart(first), blockEnd(first, n));
+        int candidate = 0;
+        int count = 0;
+        int earlyCount = 0;
+        int scanned = 0;
+        int nominatingCount = 0;
+        Result result = null;
+
+        // Pass 1: the full vote, counting the early candidate on the way.
+        for (int k = 0; k < blocks && result == null; k++) {
+            if (k > 0 && clock.getAsLong() - deadline >= 0) {
+                // The nominating block is left out of the sample: it chose the
+                // early candidate, so its share is biased upwards.
+                int sampled = scanned - (blockEnd(first, n) - blockStart(first));
+                if (k > 1 && earlyCount + (n - scanned) > majority) {
+                    result = partial(early, earlyCount - nominatingCount, sampled, k - 1, n);
+                } else {
+                    result = new Result(k > 1 ? candidate : early, Status.UNKNOWN, 0.0, 0, 0, n);
+                }
+                break;
+            }
+            int block = k == 0 ? first : nextBlock(order, k);
+            int from = blockStart(block);
+            int to = blockEnd(block, n);
+            for (int i = from; i < to; i++) {
+                int value = nums[i];
+                if (value == early) {
+                    earlyCount++;
+                }
+                if (count == 0) {
+                    candidate = value;
+                    count = 1;
+                } else if (value == candidate) {
+                    count++;
+                } else {
+                    count--;
+                }
+            }
+            scanned += to - from;
+            if (k == 0) {
+                nominatingCount = earlyCount;
+            }
+            if (earlyCount > majority) {
+                result = new Result(early, Status.VERIFIED, 1.0, earlyCount, scanned, n);
+            }
+        }
+        tracker.addArrayAccesses(scanned);
+        tracker.addComparisons(2L * scanned);
+
+        if (result == null) {
+            if (candidate == early) {
+                result = new Result(earlyCount > majority ? early : null, Status.VERIFIED, 1.0, earlyCount, n, n);
+            } else {
+                result = verify(nums, order, candidate, deadline);
+            }
+        }
+
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    // Pass 2: count the elected candidate in the same block order (complete
+    // by now), stopping as soon as the count settles the answer either way.
+    private Result verify(int[] nums, int[] order, int candidate, long deadline) {
+        int n = nums.length;
+        int majority = n / 2;
+        int count = 0;
+        int scanned = 0;
+        for (int k = 0; k < order.length; k++) {
+            if (clock.getAsLong() - deadline >= 0) {
+                tracker.addArrayAccesses(scanned);
+                tracker.addComparisons(scanned);
+                return k == 0
+                    ? new Result(candidate, Status.UNKNOWN, 0.0, 0, 0, n)
+                    : partial(candidate, count, scanned, k, n);
+            }
+            int from = blockStart(order[k] - 1);
+            int to = blockEnd(order[k] - 1, n);
+            count += MajorityKernels.count(nums, from, to, candidate);
+            scanned += to - from;
+            if (count > majority || count + (n - scanned) <= majority) {
+                break;
+            }
+        }
+        tracker.addArrayAccesses(scanned);
+        tracker.addComparisons(scanned);
+        return new Result(count > majority ? candidate : null, Status.VERIFIED, 1.0, count, scanned, n);
+    }
+
+    // Hoeffding over the sampled blocks: with m blocks drawn without
+    // replacement and an observed share s above one half, the true share is
+    // at most 1/2 with probability <= exp(-2 m (s - 1/2)^2). Blocks, not
+    // elements, are the independent draws, so sorted or clustered data is
+    // not over-trusted.
+    private static Result partial(int candidate, int count, int scanned, int blocksScanned, int n) {
+        double share = (double) count / scanned;
+        double margin = share - 0.5;
+        double confidence = margin > 0 ? 1.0 - Math.exp(-2.0 * blocksScanned * margin * margin) : 0.0;
+        return new Result(candidate, Status.PARTIALLY_VERIFIED, confidence, count, scanned, n);
+    }
+
+    // Step k of a forward Fisher-Yates shuffle, run lazily so a short budget
+    // never pays for the whole permutation. Entries hold block + 1, and 0
+    // stands for the untouched identity slot, so no up-front fill is needed.
+    private int nextBlock(int[] order, int k) {
+        int other = k + random.nextInt(order.length - k);
+        int chosen = order[other] == 0 ? other : order[other] - 1;
+        order[other] = (order[k] == 0 ? k : order[k] - 1) + 1;
+        order[k] = chosen + 1;
+        return chosen;
+    }
+
+    private int blockStart(int block) {
+        return block * blockSize;
+    }
+
+    private int blockEnd(int block, int n) {
+        return (int) Math.min(n, (long) (block + 1) * blockSize);
+    }
+
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+
+    public static final class Result {
+        private final Integer candidate;
+        private final Status status;
+        private final double confidence;
+        private final long candidateCount;
+        private final long scanned;
+        private final long total;
+
+        Result(Integer candidate, Status status, double confidence, long candidateCount, long scanned, long total) {
+            this.candidate = candidate;
+            this.status = status;
+            this.confidence = confidence;
+            this.candidateCount = candidateCount;
+            this.scanned = scanned;
+            this.total = total;
+        }
+
+        public Integer getCandidate() {
+            return candidate;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        // Fraction of the array the reported count covers; a verified answer
+        // may settle early, an unknown one covers nothing.
+        public double getFractionScanned() {
+            return total == 0 ? 1.0 : (double) scanned / total;
+        }
+
+        // Lower bound on the probability that the candidate is the majority:
+        // 1.0 when verified, the Hoeffding bound when partial, 0.0 otherwise.
+        public double getConfidence() {
+            return confidence;
+        }
+
+        public long getCandidateCount() {
+            return candidateCount;
+        }
+
+        public long getScanned() {
+            return scanned;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public boolean isVerified() {
+            return status == Status.VERIFIED;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("AnytimeMajority.Result{candidate=%s, status=%s, scanned=%.3f, confidence=%.4f}",
+                candidate, status, getFractionScanned(), confidence);
+        }
+    }
+}
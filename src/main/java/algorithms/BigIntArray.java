@@ -0,0 +1,237 @@
+package algorithms;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.function.LongToIntFunction;
+import java.util.stream.IntStream;
+
+// Long-indexed int array made of fixed-size chunks, so it can hold more
+// than 2^31 values: on-heap int[] chunks or off-heap direct buffers (which
+// stay outside the Java heap and GC). Index i lives at chunk i >>> shift,
+// offset i & mask. Majority kernels work chunk by chunk with long counts.
+public abstract class BigIntArray {
+
+    // 2^26 ints = 256 MB per chunk, under the 2 GB limit of a direct buffer.
+    static final int DEFAULT_CHUNK_SHIFT = 26;
+
+    final long length;
+    final int chunkShift;
+    final int chunkMask;
+
+    BigIntArray(long length, int chunkShift) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        if (chunkShift < 1 || chunkShift > 28) {
+            throw new IllegalArgumentException("Chunk shift outside [1, 28]: " + chunkShift);
+        }
+        this.length = length;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    public static BigIntArray onHeap(long length) {
+        return new OnHeap(length, DEFAULT_CHUNK_SHIFT);
+    }
+
+    public static BigIntArray offHeap(long length) {
+        return new OffHeap(length, DEFAULT_CHUNK_SHIFT);
+    }
+
+    static BigIntArray onHeap(long length, int chunkShift) {
+        return new OnHeap(length, chunkShift);
+    }
+
+    static BigIntArray offHeap(long length, int chunkShift) {
+        return new OffHeap(length, chunkShift);
+    }
+
+    public static BigIntArray of(int[] values) {
+        BigIntArray array = onHeap(values.length);
+        array.copyFrom(values, 0);
+        return array;
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public int chunkCount() {
+        return (int) ((length + chunkMask) >>> chunkShift);
+    }
+
+    public int chunkLength(int chunk) {
+        return (int) Math.min(1L << chunkShift, length - ((long) chunk << chunkShift));
+    }
+
+    public abstract boolean isOffHeap();
+
+    public abstract int get(long index);
+
+    public abstract void set(long index, int value);
+
+    public void copyFrom(int[] source, long offset) {
+        if (source.length == 0) {
+            return;
+        }
+        checkIndex(offset);
+        checkIndex(offset + source.length - 1);
+        for (int i = 0; i < source.length; i++) {
+            set(offset + i, source[i]);
+        }
+    }
+
+    // Fills every index in parallel, one chunk per task.
+    public void setAll(LongToIntFunction generator) {
+        IntStream.range(0, chunkCount()).parallel().forEach(chunk -> {
+            long base = (long) chunk << chunkShift;
+            int n = chunkLength(chunk);
+            for (int i = 0; i < n; i++) {
+                set(base + i, generator.applyAsInt(base + i));
+            }
+        });
+    }
+
+    // Boyer-Moore state of one chunk; chunks merge with MajoritySummary.
+    abstract MajoritySummary summarize(int chunk);
+
+    abstract long count(int chunk, int value);
+
+    public MajoritySummary summary() {
+        MajoritySummary merged = new MajoritySummary();
+        for (int chunk = 0; chunk < chunkCount(); chunk++) {
+            merged.merge(summarize(chunk));
+        }
+        return merged;
+    }
+
+    public MajoritySummary summaryParallel() {
+        return IntStream.range(0, chunkCount()).parallel()
+            .mapToObj(this::summarize)
+            .reduce(new MajoritySummary(), (a, b) -> a.copy().merge(b));
+    }
+
+    public long count(int value) {
+        long occurrences = 0;
+        for (int chunk = 0; chunk < chunkCount(); chunk++) {
+            occurrences += count(chunk, value);
+        }
+        return occurrences;
+    }
+
+    public long countParallel(int value) {
+        return IntStream.range(0, chunkCount()).parallel().mapToLong(chunk -> count(chunk, value)).sum();
+    }
+
+    void checkIndex(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " outside [0, " + length + ")");
+        }
+    }
+
+    static final class OnHeap extends BigIntArray {
+        private final int[][] chunks;
+
+        OnHeap(long length, int chunkShift) {
+            super(length, chunkShift);
+            this.chunks = new int[chunkCount()][];
+            for (int chunk = 0; chunk < chunks.length; chunk++) {
+                chunks[chunk] = new int[chunkLength(chunk)];
+            }
+        }
+
+        @Override
+        public boolean isOffHeap() {
+            return false;
+        }
+
+        @Override
+        public int get(long index) {
+            checkIndex(index);
+            return chunks[(int) (index >>> chunkShift)][(int) index & chunkMask];
+        }
+
+        @Override
+        public void set(long index, int value) {
+            checkIndex(index);
+            chunks[(int) (index >>> chunkShift)][(int) index & chunkMask] = value;
+        }
+
+        @Override
+        MajoritySummary summarize(int chunk) {
+            MajoritySummary summary = new MajoritySummary();
+            summary.addAll(chunks[chunk], 0, chunks[chunk].length);
+            return summary;
+        }
+
+        @Override
+        long count(int chunk, int value) {
+            return MajorityKernels.countUnrolled(chunks[chunk], 0, chunks[chunk].length, value);
+        }
+    }
+
+    static final class OffHeap extends BigIntArray {
+        private final IntBuffer[] chunks;
+
+        OffHeap(long length, int chunkShift) {
+            super(length, chunkShift);
+            this.chunks = new IntBuffer[chunkCount()];
+            for (int chunk = 0; chunk < chunks.length; chunk++) {
+                chunks[chunk] = ByteBuffer.allocateDirect(chunkLength(chunk) * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+            }
+        }
+
+        @Override
+        public boolean isOffHeap() {
+            return true;
+        }
+
+        @Override
+        public int get(long index) {
+            checkIndex(index);
+            return chunks[(int) (index >>> chunkShift)].get((int) index & chunkMask);
+        }
+
+        @Override
+        public void set(long index, int value) {
+            checkIndex(index);
+            chunks[(int) (index >>> chunkShift)].put((int) index & chunkMask, value);
+        }
+
+        @Override
+        MajoritySummary summarize(int chunk) {
+            IntBuffer buffer = chunks[chunk];
+            int n = buffer.limit();
+            int candidate = 0;
+            long count = 0;
+            for (int i = 0; i < n; i++) {
+                int value = buffer.get(i);
+                if (count == 0) {
+                    candidate = value;
+                    count = 1;
+                } else if (value == candidate) {
+                    count++;
+                } else {
+                    count--;
+                }
+            }
+            return new MajoritySummary(candidate, count, n);
+        }
+
+        @Override
+        long count(int chunk, int value) {
+            IntBuffer buffer = chunks[chunk];
+            int n = buffer.limit();
+            long occurrences = 0;
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == value) {
+                    occurrences++;
+                }
+            }
+            return occurrences;
+        }
+    }
+}
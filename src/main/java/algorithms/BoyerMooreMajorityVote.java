@@ -2,6 +2,9 @@ package algorithms;
 
 import metrics.PerformanceTracker;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
 public class BoyerMooreMajorityVote {
     
     private PerformanceTracker tracker;
@@ -54,8 +57,66 @@ public class BoyerMooreMajorityVote {
         return null;
     }
     
+    public Integer findMajorityElementInBuffer(IntBuffer buffer) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(buffer.remaining(), buffer.isDirect() ? "int-buffer-direct" : "int-buffer");
+        tracker.startTiming();
+        
+        int from = buffer.position();
+        int to = buffer.limit();
+        Integer candidate = findCandidate(buffer, from, to);
+        
+        if (candidate != null && isMajority(buffer, from, to, candidate)) {
+            tracker.endTiming();
+            tracker.storeResult();
+            return candidate;
+        }
+        
+        tracker.endTiming();
+        tracker.storeResult();
+        return null;
+    }
+    
+    public Integer findMajorityElementInBuffer(ByteBuffer buffer) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.remaining() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Buffer length is not a multiple of 4 bytes: " + buffer.remaining());
+        }
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(buffer.remaining() / Integer.BYTES,
+            (buffer.isDirect() ? "byte-buffer-direct-" : "byte-buffer-") + buffer.order());
+        tracker.startTiming();
+        
+        int from = buffer.position();
+        int to = buffer.limit();
+        Integer candidate = findCandidate(buffer, from, to);
+        
+        if (candidate != null && isMajority(buffer, from, to, candidate)) {
+            tracker.endTiming();
+            tracker.storeResult();
+            return candidate;
+        }
+        
+        tracker.endTiming();
+        tracker.storeResult();
+        return null;
+    }
+    
     private Integer findCandidate(int[] nums) {
-        Integer candidate = null;
+        if (nums.length == 0) {
+            return null;
+        }
+        
+        // Kept unboxed in the loop: an Integer candidate allocated on every
+        // candidate change for values outside the Integer cache.
+        int candidate = 0;
         int count = 0;
         
         for (int i = 0; i < nums.length; i++) {
@@ -97,6 +158,96 @@ public class BoyerMooreMajorityVote {
         return count > majority;
     }
     
+    // Buffer kernels use absolute gets so the caller's position is untouched
+    // and direct/foreign-order buffers are read in place without a copy.
+    private Integer findCandidate(IntBuffer buffer, int from, int to) {
+        int candidate = 0;
+        int count = 0;
+        
+        for (int i = from; i < to; i++) {
+            tracker.incrementArrayAccess();
+            int value = buffer.get(i);
+            
+            if (count == 0) {
+                candidate = value;
+                tracker.incrementMemoryAllocation();
+                count = 1;
+            } else {
+                tracker.incrementComparison();
+                if (value == candidate) {
+                    count++;
+                } else {
+                    count--;
+                }
+            }
+        }
+        
+        return candidate;
+    }
+    
+    private boolean isMajority(IntBuffer buffer, int from, int to, int candidate) {
+        int count = 0;
+        int majority = (to - from) / 2;
+        
+        for (int i = from; i < to; i++) {
+            tracker.incrementArrayAccess();
+            tracker.incrementComparison();
+            
+            if (buffer.get(i) == candidate) {
+                count++;
+                if (count > majority) {
+                    return true;
+                }
+            }
+        }
+        
+        return count > majority;
+    }
+    
+    private Integer findCandidate(ByteBuffer buffer, int from, int to) {
+        int candidate = 0;
+        int count = 0;
+        
+        for (int i = from; i < to; i += Integer.BYTES) {
+            tracker.incrementArrayAccess();
+            int value = buffer.getInt(i);
+            
+            if (count == 0) {
+                candidate = value;
+                tracker.incrementMemoryAllocation();
+                count = 1;
+            } else {
+                tracker.incrementComparison();
+                if (value == candidate) {
+                    count++;
+                } else {
+                    count--;
+                }
+            }
+        }
+        
+        return candidate;
+    }
+    
+    private boolean isMajority(ByteBuffer buffer, int from, int to, int candidate) {
+        int count = 0;
+        int majority = (to - from) / Integer.BYTES / 2;
+        
+        for (int i = from; i < to; i += Integer.BYTES) {
+            tracker.incrementArrayAccess();
+            tracker.incrementComparison();
+            
+            if (buffer.getInt(i) == candidate) {
+                count++;
+                if (count > majority) {
+                    return true;
+                }
+            }
+        }
+        
+        return count > majority;
+    }
+    
 
  
     private boolean isProbablyMajority(int[] nums, int candidate) {
@@ -165,6 +316,134 @@ public class BoyerMooreMajorityVote {
         return candidate;
     }
     
+    public ModeFinder.Result findMajorityOrMode(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return ModeFinder.Result.EMPTY;
+        }
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(nums.length, "majority-or-mode");
+        tracker.startTiming();
+        
+        int candidate = findCandidate(nums);
+        
+        // Full verification pass (no early exit) that also records the value
+        // range, so the mode fallback can pick its strategy without rescanning.
+        int count = 0;
+        int min = nums[0];
+        int max = nums[0];
+        for (int value : nums) {
+            if (value == candidate) {
+                count++;
+            }
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        tracker.addArrayAccesses(nums.length);
+        tracker.addComparisons(nums.length);
+        
+        ModeFinder.Result result;
+        if (count > nums.length / 2) {
+            result = new ModeFinder.Result(candidate, count, nums.length, ModeFinder.Strategy.MAJORITY);
+        } else {
+            result = ModeFinder.mode(nums, min, max);
+            tracker.addArrayAccesses(nums.length);
+        }
+        
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+    
+    public Integer findMajorityElementBranchless(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(nums.length, "branchless");
+        tracker.startTiming();
+        
+        int candidate = MajorityKernels.candidateBranchless(nums, 0, nums.length);
+        int count = MajorityKernels.countUnrolled(nums, 0, nums.length, candidate);
+        
+        tracker.addArrayAccesses(2L * nums.length);
+        tracker.addComparisons(2L * nums.length);
+        tracker.endTiming();
+        tracker.storeResult();
+        return count > nums.length / 2 ? candidate : null;
+    }
+    
+    public Integer findMajorityElementVectorized(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(nums.length, "vectorized:" + VectorizedCount.describe());
+        tracker.startTiming();
+        
+        int candidate = MajorityKernels.candidateBranchless(nums, 0, nums.length);
+        int count = VectorizedCount.count(nums, 0, nums.length, candidate);
+        
+        tracker.addArrayAccesses(2L * nums.length);
+        tracker.addComparisons(2L * nums.length);
+        tracker.endTiming();
+        tracker.storeResult();
+        return count > nums.length / 2 ? candidate : null;
+    }
+    
+    public Integer findMajorityElementParallel(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(nums.length, "parallel");
+        tracker.startTiming();
+        
+        Integer result = MajorityKernels.parallelMajority(nums);
+        
+        tracker.addArrayAccesses(2L * nums.length);
+        tracker.addComparisons(2L * nums.length);
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+    
+    public Integer findMajorityElementInBigArray(BigIntArray nums) {
+        return findMajorityElementInBigArray(nums, false);
+    }
+    
+    public Integer findMajorityElementInBigArrayParallel(BigIntArray nums) {
+        return findMajorityElementInBigArray(nums, true);
+    }
+    
+    private Integer findMajorityElementInBigArray(BigIntArray nums, boolean parallel) {
+        if (nums == null || nums.length() == 0) {
+            return null;
+        }
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(nums.length(),
+            (nums.isOffHeap() ? "big-off-heap" : "big-on-heap") + (parallel ? "-parallel" : ""));
+        tracker.startTiming();
+        
+        MajoritySummary summary = parallel ? nums.summaryParallel() : nums.summary();
+        Integer result = null;
+        if (summary.hasCandidate()) {
+            int candidate = summary.getCandidate();
+            long occurrences = parallel ? nums.countParallel(candidate) : nums.count(candidate);
+            result = summary.isMajority(occurrences) ? candidate : null;
+        }
+        
+        tracker.addArrayAccesses(2 * nums.length());
+        tracker.addComparisons(2 * nums.length());
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+    
     public Integer findMajorityElementNaive(int[] nums) {
         if (nums == null || nums.length == 0) {
             return null;
@@ -0,0 +1,157 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// Majority over variable-length byte keys (e.g. UTF-8 strings) laid out in
+// one buffer: key i is data[offsets[i] .. offsets[i + 1]). Keys are compared
+// by length and a 64-bit fingerprint, and only on a match longer than eight
+// bytes by their bytes, so no String or per-key object is created. Results
+// are key indexes.
+public class ByteKeyMajority {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private PerformanceTracker tracker;
+
+    public ByteKeyMajority() {
+        this.tracker = new PerformanceTracker("Byte-Key Boyer-Moore Majority Vote");
+    }
+
+    // Index of one occurrence of the majority key, or null.
+    public Integer findMajorityElement(byte[] data, int[] offsets) {
+        if (data == null || offsets == null || offsets.length < 2) {
+            return null;
+        }
+        int keys = offsets.length - 1;
+
+        tracker.reset();
+        tracker.setInputCharacteristics(keys, "byte-keys");
+        tracker.startTiming();
+
+        // Pass 1 keeps every fingerprint so verification never rehashes.
+        long[] fingerprints = new long[keys];
+        tracker.incrementMemoryAllocation();
+        int candidate = findCandidate(data, offsets, fingerprints);
+        boolean majority = isMajority(data, offsets, fingerprints, candidate);
+
+        tracker.endTiming();
+        tracker.storeResult();
+        return majority ? candidate : null;
+    }
+
+    // Copy of the majority key's bytes, or null.
+    public byte[] findMajorityKey(byte[] data, int[] offsets) {
+        Integer index = findMajorityElement(data, offsets);
+        return index == null ? null : Arrays.copyOfRange(data, offsets[index], offsets[index + 1]);
+    }
+
+    private int findCandidate(byte[] data, int[] offsets, long[] fingerprints) {
+        int candidate = 0;
+        long candidateFingerprint = 0;
+        int candidateLength = 0;
+        int count = 0;
+        long byteChecks = 0;
+
+        for (int i = 0; i < fingerprints.length; i++) {
+            int from = offsets[i];
+            int to = offsets[i + 1];
+            if (from < 0 || to < from || to > data.length) {
+                throw new IllegalArgumentException("Key " + i + " spans [" + from + ", " + to
+                    + ") outside a buffer of " + data.length + " bytes");
+            }
+            long fingerprint = fingerprint(data, from, to);
+            fingerprints[i] = fingerprint;
+
+            if (count == 0) {
+                candidate = i;
+                candidateFingerprint = fingerprint;
+                candidateLength = to - from;
+                count = 1;
+            } else if (fingerprint != candidateFingerprint || to - from != candidateLength) {
+                count--;
+            } else if (candidateLength <= Long.BYTES) {
+                count++;
+            } else {
+                byteChecks++;
+                count += sameKey(data, offsets, i, candidate) ? 1 : -1;
+            }
+        }
+
+        tracker.addArrayAccesses(fingerprints.length);
+        tracker.addComparisons(fingerprints.length + byteChecks);
+        return candidate;
+    }
+
+    private boolean isMajority(byte[] data, int[] offsets, long[] fingerprints, int candidate) {
+        long candidateFingerprint = fingerprints[candidate];
+        int candidateLength = offsets[candidate + 1] - offsets[candidate];
+        boolean exact = candidateLength <= Long.BYTES;
+        int count = 0;
+        int majority = fingerprints.length / 2;
+
+        int i = 0;
+        long byteChecks = 0;
+        for (; i < fingerprints.length && count <= majority; i++) {
+            if (fingerprints[i] != candidateFingerprint || offsets[i + 1] - offsets[i] != candidateLength) {
+                continue;
+            }
+            if (exact) {
+                count++;
+            } else {
+                byteChecks++;
+                if (sameKey(data, offsets, i, candidate)) {
+                    count++;
+                }
+            }
+        }
+
+        tracker.addArrayAccesses(i);
+        tracker.addComparisons(i + byteChecks);
+        return count > majority;
+    }
+
+    private static boolean sameKey(byte[] data, int[] offsets, int a, int b) {
+        return Arrays.equals(data, offsets[a], offsets[a + 1], data, offsets[b], offsets[b + 1]);
+    }
+
+    // Eight bytes per multiply-xorshift round, read as little-endian longs;
+    // a short tail is one masked read when the buffer extends past the key.
+    // Every round is a bijection, so for a fixed length of up to eight bytes
+    // equal fingerprints mean equal keys; longer keys can collide, which only
+    // costs a byte comparison.
+    static long fingerprint(byte[] data, int from, int to) {
+        long h = SEED ^ ((to - from) * 0xC2B2AE3D27D4EB4FL);
+        int i = from;
+        for (int limit = to - 7; i < limit; i += 8) {
+            h = mix(h ^ (long) LONGS.get(data, i));
+        }
+        int remaining = to - i;
+        long tail;
+        if (remaining == 0) {
+            tail = 0;
+        } else if (i + Long.BYTES <= data.length) {
+            tail = (long) LONGS.get(data, i) & (-1L >>> (64 - 8 * remaining));
+        } else {
+            tail = 0;
+            for (int shift = 0; i < to; i++, shift += 8) {
+                tail |= (data[i] & 0xFFL) << shift;
+            }
+        }
+        return mix(h ^ tail);
+    }
+
+    private static long mix(long x) {
+        x *= SEED;
+        return x ^ (x >>> 32);
+    }
+
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+}
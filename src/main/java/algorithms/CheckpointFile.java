@@ -0,0 +1,190 @@
+package algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+// Memory-mapped A/B checkpoint file. Each write goes to the slot not holding
+// the latest state, and the slot's sequence number is stored last, so a
+// crash mid-write leaves that slot invalid and the other one intact. The
+// CRC covers sequence, length and payload; restore picks the valid slot
+// with the highest sequence.
+//
+// File:  header (magic, version, type, slot capacity) | slot A | slot B
+// Slot:  sequence (8) | length (4) | crc32 (4) | payload (capacity)
+public final class CheckpointFile implements Closeable {
+
+    static final byte TYPE_CHECKPOINT = 4;
+    static final int FILE_HEADER_SIZE = 4 + 4;
+    static final int SLOT_HEADER_SIZE = 8 + 4 + 4;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer map;
+    private final int capacity;
+    private final boolean durable;
+    private long sequence;
+    private int latestSlot = -1;
+
+    public CheckpointFile(Path path, int capacity) throws IOException {
+        this(path, capacity, true);
+    }
+
+    // With durable == false every write still survives a process crash (the
+    // page cache owns it), but not a power loss until the OS flushes it.
+    public CheckpointFile(Path path, int capacity, boolean durable) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        this.durable = durable;
+        this.capacity = capacity;
+        // Anything below can throw (bad header, failed map); the channel
+        // must not outlive a constructor that never returns it.
+        try {
+            this.map = open(path);
+        } catch (Throwable t) {
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                t.addSuppressed(suppressed);
+            }
+            throw t;
+        }
+    }
+
+    private MappedByteBuffer open(Path path) throws IOException {
+        boolean fresh = channel.size() < FILE_HEADER_SIZE;
+        if (!fresh) {
+            int existing = readCapacity(channel);
+            if (existing < 1) {
+                throw new IllegalArgumentException("Corrupt checkpoint file " + path + ": slot capacity " + existing);
+            }
+            if (existing != capacity) {
+                throw new IllegalArgumentException("Checkpoint file " + path + " has slot capacity " + existing
+                    + ", not " + capacity);
+            }
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+            FILE_HEADER_SIZE + 2L * (SLOT_HEADER_SIZE + capacity));
+        mapped.order(ByteOrder.BIG_ENDIAN);
+        if (fresh) {
+            ByteBuffer header = mapped.duplicate();
+            MajoritySummary.writeHeader(header, TYPE_CHECKPOINT);
+            header.putInt(capacity);
+            if (durable) {
+                mapped.force();
+            }
+        }
+
+        for (int slot = 0; slot < 2; slot++) {
+            long slotSequence = validSequence(mapped, slot);
+            if (slotSequence > sequence) {
+                sequence = slotSequence;
+                latestSlot = slot;
+            }
+        }
+        return mapped;
+    }
+
+    private static int readCapacity(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        channel.read(header, 0);
+        header.flip();
+        MajoritySummary.readHeader(header, TYPE_CHECKPOINT, FILE_HEADER_SIZE);
+        return header.getInt();
+    }
+
+    public void write(byte[] payload) {
+        if (payload.length > capacity) {
+            throw new IllegalArgumentException("Checkpoint of " + payload.length + " bytes exceeds slot capacity "
+                + capacity);
+        }
+        int slot = latestSlot == 0 ? 1 : 0;
+        long next = sequence + 1;
+        int base = slotOffset(slot);
+
+        // Invalidate first: the stale sequence must not pair with new bytes.
+        map.putLong(base, 0);
+        map.putInt(base + 8, payload.length);
+        at(base + SLOT_HEADER_SIZE).put(payload);
+        map.putInt(base + 12, crc(next, payload));
+        force();
+        map.putLong(base, next);
+        force();
+
+        sequence = next;
+        latestSlot = slot;
+    }
+
+    // Latest valid payload, or null when no checkpoint was ever completed.
+    public byte[] restore() {
+        if (latestSlot < 0) {
+            return null;
+        }
+        int base = slotOffset(latestSlot);
+        byte[] payload = new byte[map.getInt(base + 8)];
+        at(base + SLOT_HEADER_SIZE).get(payload);
+        return payload;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private long validSequence(MappedByteBuffer mapped, int slot) {
+        int base = slotOffset(slot);
+        long slotSequence = mapped.getLong(base);
+        int length = mapped.getInt(base + 8);
+        if (slotSequence <= 0 || length < 0 || length > capacity) {
+            return 0;
+        }
+        byte[] payload = new byte[length];
+        ByteBuffer view = mapped.duplicate();
+        view.position(base + SLOT_HEADER_SIZE);
+        view.get(payload);
+        return crc(slotSequence, payload) == mapped.getInt(base + 12) ? slotSequence : 0;
+    }
+
+    // Absolute bulk get/put(int, byte[]) only exist from Java 13.
+    private ByteBuffer at(int offset) {
+        ByteBuffer view = map.duplicate();
+        view.position(offset);
+        return view;
+    }
+
+    private int slotOffset(int slot) {
+        return FILE_HEADER_SIZE + slot * (SLOT_HEADER_SIZE + capacity);
+    }
+
+    private static int crc(long sequence, byte[] payload) {
+        CRC32 crc = new CRC32();
+        ByteBuffer prefix = ByteBuffer.allocate(12).order(ByteOrder.BIG_ENDIAN);
+        prefix.putLong(sequence).putInt(payload.length).flip();
+        crc.update(prefix);
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    private void force() {
+        if (durable) {
+            map.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
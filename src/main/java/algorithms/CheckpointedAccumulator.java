@@ -0,0 +1,97 @@
+package algorithms;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Wraps a streaming accumulator (MajoritySummary, MisraGriesSummary, ...)
+// with periodic checkpoints. The caller mutates state() and reports how many
+// events it folded in; once interval events have accumulated the state is
+// encoded and written to the CheckpointFile. On open the latest valid
+// checkpoint is decoded, so a restarted job resumes where it last saved.
+public final class CheckpointedAccumulator<S> implements Closeable {
+
+    private final CheckpointFile file;
+    private final Function<S, byte[]> encoder;
+    private final long interval;
+    private final S state;
+    private final boolean restored;
+    private long sinceCheckpoint;
+    private long checkpoints;
+
+    public CheckpointedAccumulator(CheckpointFile file, long interval, Supplier<S> fresh,
+                                   Function<byte[], S> decoder, Function<S, byte[]> encoder) {
+        this.file = file;
+        this.encoder = encoder;
+        this.interval = interval;
+        // The file is owned from here on: the factories hand over a freshly
+        // opened one, so a rejected interval or an undecodable checkpoint
+        // must not leave its channel open.
+        try {
+            if (interval < 1) {
+                throw new IllegalArgumentException("Interval must be positive: " + interval);
+            }
+            byte[] saved = file.restore();
+            this.restored = saved != null;
+            this.state = restored ? decoder.apply(saved) : fresh.get();
+        } catch (Throwable t) {
+            try {
+                file.close();
+            } catch (IOException suppressed) {
+                t.addSuppressed(suppressed);
+            }
+            throw t;
+        }
+    }
+
+    public static CheckpointedAccumulator<MajoritySummary> majority(Path path, long interval) throws IOException {
+        return new CheckpointedAccumulator<>(new CheckpointFile(path, MajoritySummary.ENCODED_SIZE), interval,
+            MajoritySummary::new, MajoritySummary::fromBytes, MajoritySummary::toBytes);
+    }
+
+    public static CheckpointedAccumulator<MisraGriesSummary> heavyHitters(Path path, int k, long interval)
+            throws IOException {
+        return new CheckpointedAccumulator<>(new CheckpointFile(path, MisraGriesSummary.encodedSize(k)), interval,
+            () -> new MisraGriesSummary(k), MisraGriesSummary::fromBytes, MisraGriesSummary::toBytes);
+    }
+
+    public S state() {
+        return state;
+    }
+
+    public boolean wasRestored() {
+        return restored;
+    }
+
+    public void recorded(long events) {
+        sinceCheckpoint += events;
+        if (sinceCheckpoint >= interval) {
+            checkpoint();
+        }
+    }
+
+    public void checkpoint() {
+        file.write(encoder.apply(state));
+        sinceCheckpoint = 0;
+        checkpoints++;
+    }
+
+    public long getCheckpointCount() {
+        return checkpoints;
+    }
+
+    public long getSequence() {
+        return file.getSequence();
+    }
+
+    // Saves whatever arrived since the last checkpoint before closing.
+    @Override
+    public void close() throws IOException {
+        if (sinceCheckpoint > 0) {
+            checkpoint();
+        }
+        file.close();
+    }
+}
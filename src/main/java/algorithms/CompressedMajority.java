@@ -0,0 +1,61 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+// Majority straight from compressed encodings, without materialising an
+// int[]: O(1) weighted steps per run for RLE, L1-sized decode batches and
+// min/max block skipping for the packed encodings. Only time, size and
+// allocation/GC figures are tracked: the work per run or block depends on
+// skipping inside the encodings, so element-level access, comparison and
+// candidate-change counts would not be comparable with the int[] engines.
+public class CompressedMajority {
+
+    private PerformanceTracker tracker;
+
+    public CompressedMajority() {
+        this.tracker = new PerformanceTracker("Compressed Boyer-Moore Majority Vote");
+    }
+
+    public Integer findMajorityElement(RunLengthEncodedInts runs) {
+        if (runs == null || runs.length() == 0) {
+            return null;
+        }
+
+        tracker.reset();
+        tracker.setInputCharacteristics(runs.length(), "rle");
+        tracker.startTiming();
+
+        MajoritySummary summary = runs.summary();
+        Integer result = verify(summary, summary.hasCandidate() ? runs.count(summary.getCandidate()) : 0);
+
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    public Integer findMajorityElement(PackedIntBlocks blocks) {
+        if (blocks == null || blocks.length() == 0) {
+            return null;
+        }
+
+        tracker.reset();
+        tracker.setInputCharacteristics(blocks.length(),
+            blocks.getEncoding() == PackedIntBlocks.Encoding.DELTA ? "delta-packed" : "bit-packed");
+        tracker.startTiming();
+
+        MajoritySummary summary = blocks.summary();
+        Integer result = verify(summary, summary.hasCandidate() ? blocks.count(summary.getCandidate()) : 0);
+
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    private static Integer verify(MajoritySummary summary, long occurrences) {
+        return summary.isMajority(occurrences) ? summary.getCandidate() : null;
+    }
+
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+}
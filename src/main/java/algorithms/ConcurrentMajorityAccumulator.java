@@ -0,0 +1,157 @@
+package algorithms;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Multi-producer Boyer-Moore ingest. Every producer thread owns a cell and
+// is its only writer, so updates need no CAS and no lock: the owner folds
+// events into a private MajoritySummary and publishes it with release
+// stores under a per-cell sequence number. Readers walk the cells, take a
+// consistent copy of each and merge them with the MajoritySummary algebra.
+// Like LongAdder.sum(), a snapshot taken during ingest is not atomic across
+// cells; it reflects every event published before the read of each cell.
+public final class ConcurrentMajorityAccumulator {
+
+    private static final VarHandle VERSION;
+    private static final VarHandle CANDIDATE;
+    private static final VarHandle COUNT;
+    private static final VarHandle TOTAL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VERSION = lookup.findVarHandle(CellFields.class, "version", long.class);
+            CANDIDATE = lookup.findVarHandle(CellFields.class, "candidate", int.class);
+            COUNT = lookup.findVarHandle(CellFields.class, "count", long.class);
+            TOTAL = lookup.findVarHandle(CellFields.class, "total", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final AtomicReference<Cell> cells = new AtomicReference<>();
+    private final ThreadLocal<Cell> ownCell = ThreadLocal.withInitial(this::register);
+
+    public void add(int value) {
+        Cell cell = ownCell.get();
+        cell.local.add(value);
+        cell.publish();
+    }
+
+    public void add(int value, long weight) {
+        Cell cell = ownCell.get();
+        cell.local.add(value, weight);
+        cell.publish();
+    }
+
+    // Batches pay for one publication instead of one per element.
+    public void addAll(int[] nums, int from, int to) {
+        Cell cell = ownCell.get();
+        cell.local.addAll(nums, from, to);
+        cell.publish();
+    }
+
+    public void addAll(int[] nums) {
+        addAll(nums, 0, nums.length);
+    }
+
+    public MajoritySummary snapshot() {
+        MajoritySummary merged = new MajoritySummary();
+        for (Cell cell = cells.get(); cell != null; cell = cell.next) {
+            merged.merge(cell.read());
+        }
+        return merged;
+    }
+
+    public Integer candidate() {
+        return snapshot().getCandidate();
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (Cell cell = cells.get(); cell != null; cell = cell.next) {
+            total += (long) TOTAL.getOpaque(cell);
+        }
+        return total;
+    }
+
+    public int cellCount() {
+        int count = 0;
+        for (Cell cell = cells.get(); cell != null; cell = cell.next) {
+            count++;
+        }
+        return count;
+    }
+
+    private Cell register() {
+        Cell cell = new Cell();
+        Cell head;
+        do {
+            head = cells.get();
+            cell.next = head;
+        } while (!cells.compareAndSet(head, cell));
+        return cell;
+    }
+
+    // Neighbouring cells are allocated back to back, so the published fields
+    // are padded on both sides to keep each writer on its own cache lines.
+    // Padding within one class is not enough: HotSpot orders fields by size,
+    // not declaration, and may pack them together. Fields of a superclass
+    // always precede those of a subclass, so the padding is a class chain:
+    // CellPadding (leading pad) -> CellFields (hot fields) -> Cell (trailing
+    // pad). 128 bytes per side also covers adjacent-line prefetch, matching
+    // @Contended's default, which needs -XX:-RestrictContended outside the
+    // JDK and is therefore not used. The int fills the gap after a compact
+    // object header, where a subclass's int field would otherwise be placed,
+    // ahead of the padding.
+    abstract static class CellPadding {
+        int gap;
+        long p00, p01, p02, p03, p04, p05, p06, p07;
+        long p08, p09, p10, p11, p12, p13, p14, p15;
+    }
+
+    abstract static class CellFields extends CellPadding {
+        long version;
+        int candidate;
+        long count;
+        long total;
+    }
+
+    static final class Cell extends CellFields {
+        long q00, q01, q02, q03, q04, q05, q06, q07;
+        long q08, q09, q10, q11, q12, q13, q14, q15;
+
+        final MajoritySummary local = new MajoritySummary();
+        Cell next;
+
+        // Seqlock write: odd version while the fields change. The fence keeps
+        // the field stores from floating above the odd marker; the final
+        // release store is the lazySet that makes the update visible.
+        void publish() {
+            long v = (long) VERSION.getOpaque(this);
+            VERSION.setOpaque(this, v + 1);
+            VarHandle.storeStoreFence();
+            CANDIDATE.setOpaque(this, local.candidateValue());
+            COUNT.setOpaque(this, local.getCount());
+            TOTAL.setOpaque(this, local.getTotal());
+            VERSION.setRelease(this, v + 2);
+        }
+
+        MajoritySummary read() {
+            while (true) {
+                long before = (long) VERSION.getAcquire(this);
+                if ((before & 1) == 0) {
+                    int c = (int) CANDIDATE.getOpaque(this);
+                    long n = (long) COUNT.getOpaque(this);
+                    long t = (long) TOTAL.getOpaque(this);
+                    VarHandle.loadLoadFence();
+                    if ((long) VERSION.getOpaque(this) == before) {
+                        return new MajoritySummary(c, n, t);
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Mutable majority structure: a segment tree of mergeable Boyer-Moore
+// summaries nominates a candidate for any range, and an order-statistic
+// treap keyed by (value, position) counts that candidate's occurrences.
+// Point updates and (range) majority queries both cost O(log n).
+public class DynamicMajorityIndex {
+
+    private final int n;
+    private final int leaves;
+    private final int[] values;
+    private final int[] treeCandidate;
+    private final int[] treeCount;
+
+    // Treap node p + 1 holds position p; node 0 is the null sentinel.
+    private final long[] nodeKey;
+    private final int[] priority;
+    private final int[] left;
+    private final int[] right;
+    private final int[] subtreeSize;
+    private int root;
+
+    public DynamicMajorityIndex(int[] initial) {
+        if (initial == null) {
+            throw new IllegalArgumentException("Initial values must not be null");
+        }
+        this.n = initial.length;
+        this.values = initial.clone();
+        this.leaves = Integer.highestOneBit(Math.max(1, n - 1)) << 1;
+        this.treeCandidate = new int[2 * leaves];
+        this.treeCount = new int[2 * leaves];
+        for (int i = 0; i < n; i++) {
+            treeCandidate[leaves + i] = values[i];
+            treeCount[leaves + i] = 1;
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            pull(node);
+        }
+
+        this.nodeKey = new long[n + 1];
+        this.priority = new int[n + 1];
+        this.left = new int[n + 1];
+        this.right = new int[n + 1];
+        this.subtreeSize = new int[n + 1];
+        buildTreap(new Random(0x5DEECE66DL));
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    public void set(int index, int value) {
+        checkIndex(index);
+        if (values[index] == value) {
+            return;
+        }
+
+        int node = index + 1;
+        root = remove(root, nodeKey[node]);
+        values[index] = value;
+        nodeKey[node] = key(value, index);
+        left[node] = 0;
+        right[node] = 0;
+        subtreeSize[node] = 1;
+        root = insert(root, node);
+
+        int leaf = leaves + index;
+        treeCandidate[leaf] = value;
+        for (leaf >>= 1; leaf >= 1; leaf >>= 1) {
+            pull(leaf);
+        }
+    }
+
+    public Integer majority() {
+        return majority(0, n);
+    }
+
+    public Integer majority(int from, int to) {
+        if (from < 0 || to > n || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside [0, " + n + ")");
+        }
+        if (from == to) {
+            return null;
+        }
+
+        int candidate = 0;
+        int count = 0;
+        for (int lo = from + leaves, hi = to + leaves; lo < hi; lo >>= 1, hi >>= 1) {
+            if ((lo & 1) == 1) {
+                int node = lo++;
+                if (count == 0 || candidate == treeCandidate[node]) {
+                    candidate = treeCandidate[node];
+                    count += treeCount[node];
+                } else if (count >= treeCount[node]) {
+                    count -= treeCount[node];
+                } else {
+                    candidate = treeCandidate[node];
+                    count = treeCount[node] - count;
+                }
+            }
+            if ((hi & 1) == 1) {
+                int node = --hi;
+                if (count == 0 || candidate == treeCandidate[node]) {
+                    candidate = treeCandidate[node];
+                    count += treeCount[node];
+                } else if (count >= treeCount[node]) {
+                    count -= treeCount[node];
+                } else {
+                    candidate = treeCandidate[node];
+                    count = treeCount[node] - count;
+                }
+            }
+        }
+
+        if (count == 0) {
+            return null;
+        }
+        return count(candidate, from, to) > (to - from) / 2 ? candidate : null;
+    }
+
+    public int count(int value, int from, int to) {
+        if (from < 0 || to > n || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside [0, " + n + ")");
+        }
+        return rank(key(value, to)) - rank(key(value, from));
+    }
+
+    public int[] toArray() {
+        return values.clone();
+    }
+
+    private void pull(int node) {
+        int l = 2 * node;
+        int r = l + 1;
+        if (treeCount[l] == 0 || treeCandidate[l] == treeCandidate[r]) {
+            treeCandidate[node] = treeCandidate[r];
+            treeCount[node] = treeCount[l] + treeCount[r];
+        } else if (treeCount[l] >= treeCount[r]) {
+            treeCandidate[node] = treeCandidate[l];
+            treeCount[node] = treeCount[l] - treeCount[r];
+        } else {
+            treeCandidate[node] = treeCandidate[r];
+            treeCount[node] = treeCount[r] - treeCount[l];
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index " + index + " outside [0, " + n + ")");
+        }
+    }
+
+    private static long key(int value, int position) {
+        return ((long) value << 32) | position;
+    }
+
+    // Builds the treap in O(n) as a Cartesian tree over keys in sorted order.
+    private void buildTreap(Random random) {
+        long[] sorted = new long[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = key(values[i], i);
+        }
+        Arrays.sort(sorted);
+
+        int[] stack = new int[n + 1];
+        int depth = 0;
+        for (long k : sorted) {
+            int node = (int) k + 1;
+            nodeKey[node] = k;
+            priority[node] = random.nextInt();
+            subtreeSize[node] = 1;
+            int last = 0;
+            while (depth > 0 && priority[stack[depth - 1]] < priority[node]) {
+                last = stack[--depth];
+                update(last);
+            }
+            left[node] = last;
+            if (depth > 0) {
+                right[stack[depth - 1]] = node;
+            }
+            stack[depth++] = node;
+        }
+        while (depth > 1) {
+            update(stack[--depth]);
+        }
+        if (depth == 1) {
+            update(stack[0]);
+        }
+        root = n == 0 ? 0 : stack[0];
+    }
+
+    private void update(int node) {
+        subtreeSize[node] = 1 + subtreeSize[left[node]] + subtreeSize[right[node]];
+    }
+
+    private int rank(long k) {
+        int result = 0;
+        int node = root;
+        while (node != 0) {
+            if (nodeKey[node] < k) {
+                result += subtreeSize[left[node]] + 1;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return result;
+    }
+
+    private int insert(int tree, int node) {
+        if (tree == 0) {
+            return node;
+        }
+        if (priority[node] > priority[tree]) {
+            long packed = split(tree, nodeKey[node]);
+            left[node] = (int) (packed >>> 32);
+            right[node] = (int) packed;
+            update(node);
+            return node;
+        }
+        if (nodeKey[node] < nodeKey[tree]) {
+            left[tree] = insert(left[tree], node);
+        } else {
+            right[tree] = insert(right[tree], node);
+        }
+        update(tree);
+        return tree;
+    }
+
+    private int remove(int tree, long k) {
+        if (nodeKey[tree] == k) {
+            return merge(left[tree], right[tree]);
+        }
+        if (k < nodeKey[tree]) {
+            left[tree] = remove(left[tree], k);
+        } else {
+            right[tree] = remove(right[tree], k);
+        }
+        update(tree);
+        return tree;
+    }
+
+    // Splits into (keys < k, keys >= k), packed as (left << 32 | right).
+    private long split(int tree, long k) {
+        if (tree == 0) {
+            return 0;
+        }
+        if (nodeKey[tree] < k) {
+            long packed = split(right[tree], k);
+            right[tree] = (int) (packed >>> 32);
+            update(tree);
+            return ((long) tree << 32) | (packed & 0xFFFFFFFFL);
+        }
+        long packed = split(left[tree], k);
+        left[tree] = (int) packed;
+        update(tree);
+        return (packed & 0xFFFFFFFF00000000L) | tree;
+    }
+
+    private int merge(int a, int b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        update(b);
+        return b;
+    }
+}
@@ -0,0 +1,250 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class GroupedMajority {
+
+    private PerformanceTracker tracker;
+
+    public GroupedMajority() {
+        this.tracker = new PerformanceTracker("Grouped Boyer-Moore Majority Vote");
+    }
+
+    public Result aggregate(int[] keys, int[] values) {
+        validate(keys, values);
+
+        tracker.reset();
+        tracker.setInputCharacteristics(keys.length, "grouped");
+        tracker.startTiming();
+
+        Result result = aggregateRange(keys, values, 0, keys.length);
+
+        tracker.addArrayAccesses(4L * keys.length);
+        tracker.addComparisons(2L * keys.length);
+        tracker.addMemoryAllocations(result.candidateChanges);
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    public Result aggregateParallel(int[] keys, int[] values) {
+        return aggregateParallel(keys, values, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public Result aggregateParallel(int[] keys, int[] values, int partitions) {
+        validate(keys, values);
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Partitions must be positive: " + partitions);
+        }
+
+        tracker.reset();
+        tracker.setInputCharacteristics(keys.length, "grouped-parallel");
+        tracker.startTiming();
+
+        int n = keys.length;
+        int[] partitionOf = new int[n];
+        int[] offsets = new int[partitions + 1];
+        for (int i = 0; i < n; i++) {
+            // High hash bits pick the partition; the tables probe with the low bits.
+            int p = (int) (((IntIntHashMap.mix(keys[i]) >>> 1) * (long) partitions) >>> 31);
+            partitionOf[i] = p;
+            offsets[p + 1]++;
+        }
+        for (int p = 0; p < partitions; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+
+        // Scatter rows so every partition owns a contiguous, disjoint key set.
+        int[] partKeys = new int[n];
+        int[] partValues = new int[n];
+        int[] cursor = Arrays.copyOf(offsets, partitions);
+        for (int i = 0; i < n; i++) {
+            int at = cursor[partitionOf[i]]++;
+            partKeys[at] = keys[i];
+            partValues[at] = values[i];
+        }
+
+        Result[] parts = IntStream.range(0, partitions).parallel()
+            .mapToObj(p -> aggregateRange(partKeys, partValues, offsets[p], offsets[p + 1]))
+            .toArray(Result[]::new);
+        Result result = Result.concat(parts);
+
+        tracker.addArrayAccesses(8L * n);
+        tracker.addComparisons(2L * n);
+        tracker.addMemoryAllocations(result.candidateChanges);
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    private static void validate(int[] keys, int[] values) {
+        if (keys == null || values == null) {
+            throw new IllegalArgumentException("Keys and values must not be null");
+        }
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values differ in length: "
+                + keys.length + " vs " + values.length);
+        }
+    }
+
+    private static Result aggregateRange(int[] keys, int[] values, int from, int to) {
+        IntIntHashMap slots = new IntIntHashMap(Math.min(1024, to - from));
+        int[] groupKeys = new int[16];
+        int[] candidates = new int[16];
+        int[] counts = new int[16];
+        int[] groupSizes = new int[16];
+        int[] rowSlots = new int[to - from];
+        int groups = 0;
+        long candidateChanges = 0;
+
+        for (int i = from; i < to; i++) {
+            int slot = slots.putIfAbsent(keys[i], groups);
+            if (slot == groups) {
+                if (groups == groupKeys.length) {
+                    int capacity = groups << 1;
+                    groupKeys = Arrays.copyOf(groupKeys, capacity);
+                    candidates = Arrays.copyOf(candidates, capacity);
+                    counts = Arrays.copyOf(counts, capacity);
+                    groupSizes = Arrays.copyOf(groupSizes, capacity);
+                }
+                groupKeys[groups++] = keys[i];
+            }
+            rowSlots[i - from] = slot;
+            groupSizes[slot]++;
+
+            int value = values[i];
+            if (counts[slot] == 0) {
+                candidates[slot] = value;
+                counts[slot] = 1;
+                candidateChanges++;
+            } else if (candidates[slot] == value) {
+                counts[slot]++;
+            } else {
+                counts[slot]--;
+            }
+        }
+
+        // Verification pass reuses the counts array for exact occurrences.
+        Arrays.fill(counts, 0, groups, 0);
+        for (int i = from; i < to; i++) {
+            int slot = rowSlots[i - from];
+            if (values[i] == candidates[slot]) {
+                counts[slot]++;
+            }
+        }
+
+        boolean[] hasMajority = new boolean[groups];
+        for (int g = 0; g < groups; g++) {
+            hasMajority[g] = counts[g] > groupSizes[g] / 2;
+        }
+
+        return new Result(Arrays.copyOf(groupKeys, groups), Arrays.copyOf(candidates, groups),
+            Arrays.copyOf(counts, groups), Arrays.copyOf(groupSizes, groups), hasMajority, candidateChanges);
+    }
+
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+
+    // Columnar result: index g describes one distinct key. Groups appear in
+    // first-seen order for aggregate(), and per partition for the parallel path.
+    public static final class Result {
+        private final int[] keys;
+        private final int[] candidates;
+        private final int[] candidateCounts;
+        private final int[] groupSizes;
+        private final boolean[] hasMajority;
+        private final long candidateChanges;
+        private IntIntHashMap index;
+
+        Result(int[] keys, int[] candidates, int[] candidateCounts, int[] groupSizes,
+               boolean[] hasMajority, long candidateChanges) {
+            this.keys = keys;
+            this.candidates = candidates;
+            this.candidateCounts = candidateCounts;
+            this.groupSizes = groupSizes;
+            this.hasMajority = hasMajority;
+            this.candidateChanges = candidateChanges;
+        }
+
+        static Result concat(Result[] parts) {
+            int total = 0;
+            long changes = 0;
+            for (Result part : parts) {
+                total += part.size();
+                changes += part.candidateChanges;
+            }
+            int[] keys = new int[total];
+            int[] candidates = new int[total];
+            int[] candidateCounts = new int[total];
+            int[] groupSizes = new int[total];
+            boolean[] hasMajority = new boolean[total];
+            int at = 0;
+            for (Result part : parts) {
+                int size = part.size();
+                System.arraycopy(part.keys, 0, keys, at, size);
+                System.arraycopy(part.candidates, 0, candidates, at, size);
+                System.arraycopy(part.candidateCounts, 0, candidateCounts, at, size);
+                System.arraycopy(part.groupSizes, 0, groupSizes, at, size);
+                System.arraycopy(part.hasMajority, 0, hasMajority, at, size);
+                at += size;
+            }
+            return new Result(keys, candidates, candidateCounts, groupSizes, hasMajority, changes);
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public int[] getKeys() {
+            return keys.clone();
+        }
+
+        public int[] getCandidates() {
+            return candidates.clone();
+        }
+
+        public int[] getCandidateCounts() {
+            return candidateCounts.clone();
+        }
+
+        public int[] getGroupSizes() {
+            return groupSizes.clone();
+        }
+
+        public boolean[] getHasMajority() {
+            return hasMajority.clone();
+        }
+
+        public int keyAt(int group) {
+            return keys[group];
+        }
+
+        public boolean hasMajorityAt(int group) {
+            return hasMajority[group];
+        }
+
+        public int candidateAt(int group) {
+            return candidates[group];
+        }
+
+        public int groupSizeAt(int group) {
+            return groupSizes[group];
+        }
+
+        public Integer majorityFor(int key) {
+            if (index == null) {
+                IntIntHashMap built = new IntIntHashMap(keys.length);
+                for (int g = 0; g < keys.length; g++) {
+                    built.put(keys[g], g);
+                }
+                index = built;
+            }
+            int group = index.get(key, -1);
+            return group >= 0 && hasMajority[group] ? candidates[group] : null;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package algorithms;
+
+import java.util.stream.IntStream;
+
+// Untracked scan kernels. BoyerMooreMajorityVote counts every access through
+// PerformanceTracker; these are the same passes with nothing but the loop,
+// for benchmarks and for engines that report metrics in bulk.
+public final class MajorityKernels {
+    
+    private MajorityKernels() {
+    }
+    
+    public static int candidate(int[] nums, int from, int to) {
+        int candidate = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int value = nums[i];
+            if (count == 0) {
+                candidate = value;
+                count = 1;
+            } else if (value == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return candidate;
+    }
+    
+    // Full count without the early exit, which keeps the loop countable.
+    public static int count(int[] nums, int from, int to, int value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (nums[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    // Same election as candidate() with no data-dependent branches. "count is
+    // zero" and "value differs from candidate" become sign-bit masks, so the
+    // JIT emits cmov/arithmetic and random data no longer mispredicts. The
+    // vote is a serial dependency chain; unrolling by four only removes loop
+    // overhead.
+    public static int candidateBranchless(int[] nums, int from, int to) {
+        int candidate = 0;
+        int count = 0;
+        int i = from;
+        for (int limit = to - 3; i < limit; i += 4) {
+            int a = nums[i];
+            int b = nums[i + 1];
+            int c = nums[i + 2];
+            int d = nums[i + 3];
+            candidate ^= (candidate ^ a) & ((count - 1) >> 31);
+            count += 1 - (differs(a, candidate) << 1);
+            candidate ^= (candidate ^ b) & ((count - 1) >> 31);
+            count += 1 - (differs(b, candidate) << 1);
+            candidate ^= (candidate ^ c) & ((count - 1) >> 31);
+            count += 1 - (differs(c, candidate) << 1);
+            candidate ^= (candidate ^ d) & ((count - 1) >> 31);
+            count += 1 - (differs(d, candidate) << 1);
+        }
+        for (; i < to; i++) {
+            int value = nums[i];
+            candidate ^= (candidate ^ value) & ((count - 1) >> 31);
+            count += 1 - (differs(value, candidate) << 1);
+        }
+        return candidate;
+    }
+    
+    // Four independent accumulators break the single add chain of count().
+    public static int countUnrolled(int[] nums, int from, int to, int value) {
+        int c0 = 0;
+        int c1 = 0;
+        int c2 = 0;
+        int c3 = 0;
+        int i = from;
+        for (int limit = to - 3; i < limit; i += 4) {
+            c0 += differs(nums[i], value) ^ 1;
+            c1 += differs(nums[i + 1], value) ^ 1;
+            c2 += differs(nums[i + 2], value) ^ 1;
+            c3 += differs(nums[i + 3], value) ^ 1;
+        }
+        for (; i < to; i++) {
+            c0 += differs(nums[i], value) ^ 1;
+        }
+        return c0 + c1 + c2 + c3;
+    }
+    
+    // 1 if a != b, else 0.
+    static int differs(int a, int b) {
+        int d = a ^ b;
+        return (d | -d) >>> 31;
+    }
+    
+    // One pass that elects a candidate and, at the same time, counts a
+    // predicted value (e.g. the previous answer for this data). When the
+    // elected candidate equals the prediction the verification pass is free.
+    // Returns (candidate << 32) | predictedCount.
+    public static long candidateAndCount(int[] nums, int from, int to, int predicted) {
+        int candidate = 0;
+        int count = 0;
+        int predictedCount = 0;
+        for (int i = from; i < to; i++) {
+            int value = nums[i];
+            if (value == predicted) {
+                predictedCount++;
+            }
+            if (count == 0) {
+                candidate = value;
+                count = 1;
+            } else if (value == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return ((long) candidate << 32) | (predictedCount & 0xFFFFFFFFL);
+    }
+    
+    public static Integer majority(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        int candidate = candidate(nums, 0, nums.length);
+        return count(nums, 0, nums.length, candidate) > nums.length / 2 ? candidate : null;
+    }
+    
+    public static Integer majority(int[] nums, int predicted) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        long fused = candidateAndCount(nums, 0, nums.length, predicted);
+        int candidate = (int) (fused >>> 32);
+        int count = candidate == predicted ? (int) fused : count(nums, 0, nums.length, candidate);
+        return count > nums.length / 2 ? candidate : null;
+    }
+    
+    public static Integer majorityBranchless(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        int candidate = candidateBranchless(nums, 0, nums.length);
+        return countUnrolled(nums, 0, nums.length, candidate) > nums.length / 2 ? candidate : null;
+    }
+    
+    static final int PARALLEL_CHUNK = 1 << 16;
+    
+    // Chunk-local Boyer-Moore summaries merged with the MajoritySummary
+    // algebra, then a parallel count of the merged candidate.
+    public static Integer parallelMajority(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return null;
+        }
+        int chunks = (nums.length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        MajoritySummary merged = IntStream.range(0, chunks).parallel()
+            .mapToObj(c -> {
+                MajoritySummary summary = new MajoritySummary();
+                summary.addAll(nums, c * PARALLEL_CHUNK, (int) Math.min(nums.length, (long) (c + 1) * PARALLEL_CHUNK));
+                return summary;
+            })
+            .reduce(new MajoritySummary(), (a, b) -> a.copy().merge(b));
+        if (!merged.hasCandidate()) {
+            return null;
+        }
+        int candidate = merged.getCandidate();
+        long occurrences = IntStream.range(0, chunks).parallel()
+            .mapToLong(c -> count(nums, c * PARALLEL_CHUNK, (int) Math.min(nums.length, (long) (c + 1) * PARALLEL_CHUNK), candidate))
+            .sum();
+        return merged.isMajority(occurrences) ? candidate : null;
+    }
+}
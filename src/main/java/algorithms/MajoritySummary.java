@@ -0,0 +1,242 @@
+package algorithms;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Mergeable Boyer-Moore state: (candidate, count) plus the total weight seen.
+public final class MajoritySummary {
+
+    static final byte MAGIC_0 = 'B';
+    static final byte MAGIC_1 = 'M';
+    static final byte FORMAT_VERSION = 1;
+    static final byte TYPE_BOYER_MOORE = 1;
+    static final byte TYPE_CANDIDATE_COUNT = 2;
+
+    public static final int ENCODED_SIZE = 4 + 4 + 8 + 8;
+    public static final int COUNT_ENCODED_SIZE = 4 + 4 + 8;
+
+    private int candidate;
+    private long count;
+    private long total;
+
+    public MajoritySummary() {
+    }
+
+    public MajoritySummary(int candidate, long count, long total) {
+        if (count < 0 || total < count) {
+            throw new IllegalArgumentException("Invalid summary: count=" + count + ", total=" + total);
+        }
+        this.candidate = candidate;
+        this.count = count;
+        this.total = total;
+    }
+
+    public static MajoritySummary of(int[] nums) {
+        MajoritySummary summary = new MajoritySummary();
+        if (nums != null) {
+            summary.addAll(nums, 0, nums.length);
+        }
+        return summary;
+    }
+
+    public void add(int value) {
+        if (count == 0) {
+            candidate = value;
+            count = 1;
+        } else if (value == candidate) {
+            count++;
+        } else {
+            count--;
+        }
+        total++;
+    }
+
+    public void add(int value, long weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight: " + weight);
+        }
+        if (weight == 0) {
+            return;
+        }
+        total = Math.addExact(total, weight);
+        if (count == 0 || value == candidate) {
+            candidate = value;
+            count += weight;
+        } else if (count >= weight) {
+            count -= weight;
+        } else {
+            candidate = value;
+            count = weight - count;
+        }
+    }
+
+    public void addAll(int[] nums, int from, int to) {
+        int cand = candidate;
+        long cnt = count;
+        for (int i = from; i < to; i++) {
+            if (cnt == 0) {
+                cand = nums[i];
+                cnt = 1;
+            } else if (nums[i] == cand) {
+                cnt++;
+            } else {
+                cnt--;
+            }
+        }
+        candidate = cand;
+        count = cnt;
+        total += to - from;
+    }
+
+    public MajoritySummary merge(MajoritySummary other) {
+        long mergedTotal = Math.addExact(total, other.total);
+        if (other.count > 0) {
+            if (count == 0 || candidate == other.candidate) {
+                candidate = other.candidate;
+                count += other.count;
+            } else if (count >= other.count) {
+                count -= other.count;
+            } else {
+                candidate = other.candidate;
+                count = other.count - count;
+            }
+        }
+        total = mergedTotal;
+        return this;
+    }
+
+    public static MajoritySummary merged(Iterable<MajoritySummary> summaries) {
+        MajoritySummary result = new MajoritySummary();
+        for (MajoritySummary summary : summaries) {
+            result.merge(summary);
+        }
+        return result;
+    }
+
+    public MajoritySummary copy() {
+        return new MajoritySummary(candidate, count, total);
+    }
+
+    public boolean hasCandidate() {
+        return count > 0;
+    }
+
+    public Integer getCandidate() {
+        return count > 0 ? candidate : null;
+    }
+
+    // Raw candidate without boxing; meaningless while count is zero.
+    int candidateValue() {
+        return candidate;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public boolean isMajority(long candidateOccurrences) {
+        return count > 0 && candidateOccurrences > total - candidateOccurrences;
+    }
+
+    public static long countCandidate(int[] nums, int candidate) {
+        return countCandidate(nums, 0, nums.length, candidate);
+    }
+
+    public static long countCandidate(int[] nums, int from, int to, int candidate) {
+        long occurrences = 0;
+        for (int i = from; i < to; i++) {
+            if (nums[i] == candidate) {
+                occurrences++;
+            }
+        }
+        return occurrences;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_SIZE).order(ByteOrder.BIG_ENDIAN);
+        writeHeader(buffer, TYPE_BOYER_MOORE);
+        buffer.putInt(candidate);
+        buffer.putLong(count);
+        buffer.putLong(total);
+        return buffer.array();
+    }
+
+    public static MajoritySummary fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN);
+        readHeader(buffer, TYPE_BOYER_MOORE, ENCODED_SIZE);
+        int candidate = buffer.getInt();
+        long count = buffer.getLong();
+        long total = buffer.getLong();
+        return new MajoritySummary(candidate, count, total);
+    }
+
+    // Second round: the coordinator broadcasts the merged candidate, every
+    // shard answers with its exact occurrence count in this message format.
+    public static byte[] encodeCandidateCount(int candidate, long occurrences) {
+        ByteBuffer buffer = ByteBuffer.allocate(COUNT_ENCODED_SIZE).order(ByteOrder.BIG_ENDIAN);
+        writeHeader(buffer, TYPE_CANDIDATE_COUNT);
+        buffer.putInt(candidate);
+        buffer.putLong(occurrences);
+        return buffer.array();
+    }
+
+    public long decodeCandidateCount(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN);
+        readHeader(buffer, TYPE_CANDIDATE_COUNT, COUNT_ENCODED_SIZE);
+        int reportedCandidate = buffer.getInt();
+        if (count == 0 || reportedCandidate != candidate) {
+            throw new IllegalArgumentException("Count reported for candidate " + reportedCandidate
+                + " but the merged candidate is " + getCandidate());
+        }
+        long occurrences = buffer.getLong();
+        if (occurrences < 0) {
+            throw new IllegalArgumentException("Negative occurrence count: " + occurrences);
+        }
+        return occurrences;
+    }
+
+    public Integer resolve(Iterable<byte[]> candidateCounts) {
+        if (count == 0) {
+            return null;
+        }
+        long occurrences = 0;
+        for (byte[] message : candidateCounts) {
+            occurrences = Math.addExact(occurrences, decodeCandidateCount(message));
+        }
+        return isMajority(occurrences) ? candidate : null;
+    }
+
+    static void writeHeader(ByteBuffer buffer, byte type) {
+        buffer.put(MAGIC_0);
+        buffer.put(MAGIC_1);
+        buffer.put(FORMAT_VERSION);
+        buffer.put(type);
+    }
+
+    static void readHeader(ByteBuffer buffer, byte expectedType, int minimumSize) {
+        if (buffer.remaining() < minimumSize) {
+            throw new IllegalArgumentException("Truncated summary: " + buffer.remaining() + " bytes");
+        }
+        if (buffer.get() != MAGIC_0 || buffer.get() != MAGIC_1) {
+            throw new IllegalArgumentException("Not a majority summary");
+        }
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported summary version: " + version);
+        }
+        byte type = buffer.get();
+        if (type != expectedType) {
+            throw new IllegalArgumentException("Unexpected summary type: " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MajoritySummary{candidate=%s, count=%d, total=%d}",
+            getCandidate(), count, total);
+    }
+}
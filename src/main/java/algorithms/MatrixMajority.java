@@ -0,0 +1,228 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.util.stream.IntStream;
+
+// Per-column and per-row majorities over row-major matrices, given either
+// as a flat int[] of rows * cols or as a rectangular int[][]. Columns are
+// voted in lockstep: one Boyer-Moore state per column, advanced a row at a
+// time, so the data is read sequentially instead of gathered by stride.
+// Wide matrices are cut into column blocks whose state stays in L1; the
+// parallel path hands those blocks to different threads.
+public class MatrixMajority {
+
+    static final int DEFAULT_BLOCK_COLUMNS = 1024;
+    static final int MIN_PARALLEL_BLOCK_COLUMNS = 64;
+
+    private PerformanceTracker tracker;
+
+    public MatrixMajority() {
+        this.tracker = new PerformanceTracker("Matrix Boyer-Moore Majority Vote");
+    }
+
+    public Result columns(int[] flat, int rows, int cols) {
+        validate(flat, rows, cols);
+        return trackColumns(flat, null, rows, cols, "matrix-columns", DEFAULT_BLOCK_COLUMNS, false);
+    }
+
+    public Result columns(int[][] matrix) {
+        int cols = validate(matrix);
+        return trackColumns(null, matrix, matrix.length, cols, "matrix-columns-2d", DEFAULT_BLOCK_COLUMNS, false);
+    }
+
+    public Result columnsParallel(int[] flat, int rows, int cols) {
+        int target = cols / (Runtime.getRuntime().availableProcessors() * 4);
+        int blockColumns = Math.max(MIN_PARALLEL_BLOCK_COLUMNS, Math.min(DEFAULT_BLOCK_COLUMNS, target));
+        return columnsParallel(flat, rows, cols, blockColumns);
+    }
+
+    public Result columnsParallel(int[] flat, int rows, int cols, int blockColumns) {
+        validate(flat, rows, cols);
+        if (blockColumns < 1) {
+            throw new IllegalArgumentException("Block width must be positive: " + blockColumns);
+        }
+        return trackColumns(flat, null, rows, cols, "matrix-columns-parallel", blockColumns, true);
+    }
+
+    public Result rows(int[] flat, int rows, int cols) {
+        validate(flat, rows, cols);
+        return trackRows(flat, null, rows, cols, "matrix-rows");
+    }
+
+    // Rows are voted in place; rows of different lengths are rejected,
+    // since a Result carries one line length.
+    public Result rows(int[][] matrix) {
+        int cols = validate(matrix);
+        return trackRows(null, matrix, matrix.length, cols, "matrix-rows-2d");
+    }
+
+    // Exactly one of flat and matrix is non-null.
+    private Result trackRows(int[] flat, int[][] matrix, int rows, int cols, String type) {
+        tracker.reset();
+        tracker.setInputCharacteristics((long) rows * cols, type);
+        tracker.startTiming();
+
+        int[] candidates = new int[rows];
+        int[] counts = new int[rows];
+        boolean[] hasMajority = new boolean[rows];
+        for (int r = 0; r < rows; r++) {
+            int[] row = matrix == null ? flat : matrix[r];
+            int from = matrix == null ? r * cols : 0;
+            candidates[r] = MajorityKernels.candidate(row, from, from + cols);
+            counts[r] = MajorityKernels.count(row, from, from + cols, candidates[r]);
+            hasMajority[r] = cols > 0 && counts[r] > cols / 2;
+        }
+
+        tracker.addArrayAccesses(2L * rows * cols);
+        tracker.addComparisons(2L * rows * cols);
+        tracker.endTiming();
+        tracker.storeResult();
+        return new Result(candidates, counts, hasMajority, cols);
+    }
+
+    // Exactly one of flat and matrix is non-null.
+    private Result trackColumns(int[] flat, int[][] matrix, int rows, int cols, String type,
+                                int blockColumns, boolean parallel) {
+        tracker.reset();
+        tracker.setInputCharacteristics(rows * cols, type);
+        tracker.startTiming();
+
+        int[] candidates = new int[cols];
+        int[] counts = new int[cols];
+        int blocks = (cols + blockColumns - 1) / blockColumns;
+        IntStream range = IntStream.range(0, blocks);
+        long changes = (parallel ? range.parallel() : range)
+            .mapToLong(b -> voteBlock(flat, matrix, rows, cols, b * blockColumns,
+                Math.min(cols, (b + 1) * blockColumns), candidates, counts))
+            .sum();
+
+        boolean[] hasMajority = new boolean[cols];
+        for (int c = 0; c < cols; c++) {
+            hasMajority[c] = rows > 0 && counts[c] > rows / 2;
+        }
+
+        tracker.addArrayAccesses(4L * rows * cols);
+        tracker.addComparisons(2L * rows * cols);
+        tracker.addMemoryAllocations(changes);
+        tracker.endTiming();
+        tracker.storeResult();
+        return new Result(candidates, counts, hasMajority, rows);
+    }
+
+    // Votes and then verifies columns [from, to) over all rows. Each row
+    // contributes one contiguous strip of to - from values to both passes.
+    private static long voteBlock(int[] flat, int[][] matrix, int rows, int cols, int from, int to,
+                                  int[] candidates, int[] counts) {
+        long changes = 0;
+        for (int r = 0; r < rows; r++) {
+            int[] row = matrix == null ? flat : matrix[r];
+            int shift = matrix == null ? r * cols : 0;
+            for (int c = from; c < to; c++) {
+                int value = row[shift + c];
+                if (counts[c] == 0) {
+                    candidates[c] = value;
+                    counts[c] = 1;
+                    changes++;
+                } else if (candidates[c] == value) {
+                    counts[c]++;
+                } else {
+                    counts[c]--;
+                }
+            }
+        }
+
+        // Verification reuses the counts for exact occurrences.
+        for (int c = from; c < to; c++) {
+            counts[c] = 0;
+        }
+        for (int r = 0; r < rows; r++) {
+            int[] row = matrix == null ? flat : matrix[r];
+            int shift = matrix == null ? r * cols : 0;
+            for (int c = from; c < to; c++) {
+                if (row[shift + c] == candidates[c]) {
+                    counts[c]++;
+                }
+            }
+        }
+        return changes;
+    }
+
+    private static void validate(int[] flat, int rows, int cols) {
+        if (flat == null) {
+            throw new IllegalArgumentException("Matrix must not be null");
+        }
+        if (rows < 0 || cols < 0 || (long) rows * cols != flat.length) {
+            throw new IllegalArgumentException("Matrix of " + flat.length + " values is not "
+                + rows + " x " + cols);
+        }
+    }
+
+    private static int validate(int[][] matrix) {
+        if (matrix == null) {
+            throw new IllegalArgumentException("Matrix must not be null");
+        }
+        int cols = matrix.length == 0 ? 0 : matrix[0].length;
+        for (int r = 0; r < matrix.length; r++) {
+            if (matrix[r] == null || matrix[r].length != cols) {
+                throw new IllegalArgumentException("Row " + r + " is not " + cols + " values long");
+            }
+        }
+        if ((long) matrix.length * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix too large: " + matrix.length + " x " + cols);
+        }
+        return cols;
+    }
+
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+
+    // Columnar result: index i describes one column (or row), and every
+    // line holds lineLength values.
+    public static final class Result {
+        private final int[] candidates;
+        private final int[] candidateCounts;
+        private final boolean[] hasMajority;
+        private final int lineLength;
+
+        Result(int[] candidates, int[] candidateCounts, boolean[] hasMajority, int lineLength) {
+            this.candidates = candidates;
+            this.candidateCounts = candidateCounts;
+            this.hasMajority = hasMajority;
+            this.lineLength = lineLength;
+        }
+
+        public int size() {
+            return candidates.length;
+        }
+
+        public int getLineLength() {
+            return lineLength;
+        }
+
+        public int[] getCandidates() {
+            return candidates.clone();
+        }
+
+        public int[] getCandidateCounts() {
+            return candidateCounts.clone();
+        }
+
+        public boolean[] getHasMajority() {
+            return hasMajority.clone();
+        }
+
+        public boolean hasMajorityAt(int line) {
+            return hasMajority[line];
+        }
+
+        public int candidateAt(int line) {
+            return candidates[line];
+        }
+
+        public Integer majorityAt(int line) {
+            return hasMajority[line] ? candidates[line] : null;
+        }
+    }
+}
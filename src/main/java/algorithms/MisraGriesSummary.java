@@ -0,0 +1,240 @@
+package algorithms;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// Misra-Gries frequent-items summary with k counters. Every value occurring
+// more than total / (k + 1) times is guaranteed to keep a counter; k = 1 is
+// exactly Boyer-Moore.
+public final class MisraGriesSummary {
+
+    static final byte TYPE_MISRA_GRIES = 3;
+
+    // About 12 MB of counters, an error bound of total / 2^20. Also the
+    // ceiling for decoded payloads, whose capacity is otherwise unchecked
+    // input: a 20-byte blob must not be able to demand a 24 GB allocation.
+    public static final int MAX_CAPACITY = 1 << 20;
+
+    private final int capacity;
+    private final int[] keys;
+    private final long[] counts;
+    private int size;
+    private long total;
+
+    public MisraGriesSummary(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be in [1, " + MAX_CAPACITY + "]: " + capacity);
+        }
+        this.capacity = capacity;
+        this.keys = new int[capacity];
+        this.counts = new long[capacity];
+    }
+
+    public static MisraGriesSummary of(int[] nums, int capacity) {
+        MisraGriesSummary summary = new MisraGriesSummary(capacity);
+        summary.addAll(nums, 0, nums.length);
+        return summary;
+    }
+
+    public void add(int value) {
+        add(value, 1);
+    }
+
+    public void add(int value, long weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight: " + weight);
+        }
+        if (weight == 0) {
+            return;
+        }
+        total = Math.addExact(total, weight);
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == value) {
+                counts[i] += weight;
+                return;
+            }
+        }
+        if (size < capacity) {
+            keys[size] = value;
+            counts[size] = weight;
+            size++;
+            return;
+        }
+        long decrement = weight;
+        for (int i = 0; i < size; i++) {
+            decrement = Math.min(decrement, counts[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            counts[i] -= decrement;
+        }
+        compact();
+        if (weight > decrement) {
+            keys[size] = value;
+            counts[size] = weight - decrement;
+            size++;
+        }
+    }
+
+    public void addAll(int[] nums, int from, int to) {
+        for (int i = from; i < to; i++) {
+            add(nums[i]);
+        }
+    }
+
+    public MisraGriesSummary merge(MisraGriesSummary other) {
+        if (other.capacity != capacity) {
+            throw new IllegalArgumentException("Capacity mismatch: " + capacity + " vs " + other.capacity);
+        }
+        // Checked before any counter changes, so an overflow leaves this
+        // summary as it was; counters never exceed their total, so the
+        // per-key sums below cannot overflow once this passes.
+        long mergedTotal = Math.addExact(total, other.total);
+        int[] mergedKeys = Arrays.copyOf(keys, size + other.size);
+        long[] mergedCounts = Arrays.copyOf(counts, size + other.size);
+        int mergedSize = size;
+        for (int j = 0; j < other.size; j++) {
+            int i = 0;
+            while (i < mergedSize && mergedKeys[i] != other.keys[j]) {
+                i++;
+            }
+            if (i == mergedSize) {
+                mergedKeys[i] = other.keys[j];
+                mergedSize++;
+            }
+            mergedCounts[i] += other.counts[j];
+        }
+
+        // Keep the k largest counters after subtracting the (k+1)-th largest.
+        long threshold = 0;
+        if (mergedSize > capacity) {
+            long[] sorted = Arrays.copyOf(mergedCounts, mergedSize);
+            Arrays.sort(sorted);
+            threshold = sorted[mergedSize - capacity - 1];
+        }
+        size = 0;
+        for (int i = 0; i < mergedSize; i++) {
+            long remaining = mergedCounts[i] - threshold;
+            if (remaining > 0 && size < capacity) {
+                keys[size] = mergedKeys[i];
+                counts[size] = remaining;
+                size++;
+            }
+        }
+        total = mergedTotal;
+        return this;
+    }
+
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (counts[read] > 0) {
+                keys[write] = keys[read];
+                counts[write] = counts[read];
+                write++;
+            }
+        }
+        size = write;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int[] candidates() {
+        return Arrays.copyOf(keys, size);
+    }
+
+    public long estimatedCount(int value) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == value) {
+                return counts[i];
+            }
+        }
+        return 0;
+    }
+
+    public long maxUndercount() {
+        return total / (capacity + 1);
+    }
+
+    public static long[] countCandidates(int[] nums, int[] candidates) {
+        long[] occurrences = new long[candidates.length];
+        for (int value : nums) {
+            for (int c = 0; c < candidates.length; c++) {
+                if (value == candidates[c]) {
+                    occurrences[c]++;
+                    break;
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    // Upper bound on toBytes().length for a summary of this capacity.
+    public static int encodedSize(int capacity) {
+        return 4 + 4 + 8 + 4 + capacity * 12;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 4 + 8 + 4 + size * 12).order(ByteOrder.BIG_ENDIAN);
+        MajoritySummary.writeHeader(buffer, TYPE_MISRA_GRIES);
+        buffer.putInt(capacity);
+        buffer.putLong(total);
+        buffer.putInt(size);
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(keys[i]);
+            buffer.putLong(counts[i]);
+        }
+        return buffer.array();
+    }
+
+    public static MisraGriesSummary fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN);
+        MajoritySummary.readHeader(buffer, TYPE_MISRA_GRIES, 4 + 4 + 8 + 4);
+        int capacity = buffer.getInt();
+        long total = buffer.getLong();
+        int size = buffer.getInt();
+        if (capacity < 1 || capacity > MAX_CAPACITY || total < 0 || size < 0 || size > capacity
+                || buffer.remaining() < size * 12L) {
+            throw new IllegalArgumentException("Corrupt Misra-Gries summary");
+        }
+        MisraGriesSummary summary = new MisraGriesSummary(capacity);
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            summary.keys[i] = buffer.getInt();
+            summary.counts[i] = buffer.getLong();
+            if (summary.counts[i] <= 0) {
+                throw new IllegalArgumentException("Corrupt Misra-Gries summary");
+            }
+            sum += summary.counts[i];
+        }
+        if (sum > total) {
+            throw new IllegalArgumentException("Corrupt Misra-Gries summary");
+        }
+        summary.size = size;
+        summary.total = total;
+        return summary;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("MisraGriesSummary{capacity=").append(capacity)
+            .append(", total=").append(total).append(", counters=[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keys[i]).append('=').append(counts[i]);
+        }
+        return sb.append("]}").toString();
+    }
+}
@@ -0,0 +1,251 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// Most-frequent-value (plurality) computation used when no strict majority
+// exists. Ties resolve to the smallest value so every strategy agrees.
+public final class ModeFinder {
+
+    public enum Strategy {
+        MAJORITY,
+        COUNTING_ARRAY,
+        HASH_TABLE,
+        RADIX_SORT
+    }
+
+    static final long COUNTING_ARRAY_LIMIT = 1 << 22;
+    static final int SAMPLE_SIZE = 2048;
+    static final double HASH_TABLE_MAX_DISTINCT_RATIO = 0.25;
+    private static final int INSERTION_SORT_THRESHOLD = 48;
+
+    private ModeFinder() {
+    }
+
+    public static Result mode(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return Result.EMPTY;
+        }
+        int min = nums[0];
+        int max = nums[0];
+        for (int value : nums) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return mode(nums, min, max);
+    }
+
+    public static Result mode(int[] nums, Strategy strategy) {
+        if (nums == null || nums.length == 0) {
+            return Result.EMPTY;
+        }
+        int min = nums[0];
+        int max = nums[0];
+        for (int value : nums) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return mode(nums, min, max, strategy);
+    }
+
+    static Result mode(int[] nums, int min, int max) {
+        return mode(nums, min, max, chooseStrategy(nums, min, max));
+    }
+
+    static Result mode(int[] nums, int min, int max, Strategy strategy) {
+        switch (strategy) {
+            case COUNTING_ARRAY:
+                if ((long) max - min + 1 > COUNTING_ARRAY_LIMIT) {
+                    throw new IllegalArgumentException("Value range too wide for a counting array: " + min + ".." + max);
+                }
+                return countingArrayMode(nums, min, max);
+            case HASH_TABLE:
+                return hashTableMode(nums);
+            case RADIX_SORT:
+                return radixSortMode(nums);
+            default:
+                throw new IllegalArgumentException("Not a mode strategy: " + strategy);
+        }
+    }
+
+    static Strategy chooseStrategy(int[] nums, int min, int max) {
+        long range = (long) max - min + 1;
+        if (range <= COUNTING_ARRAY_LIMIT && range <= 2L * nums.length + 1024) {
+            return Strategy.COUNTING_ARRAY;
+        }
+
+        // Estimate the distinct ratio from an evenly strided sample.
+        int sample = Math.min(SAMPLE_SIZE, nums.length);
+        long stride = Math.max(1, nums.length / sample);
+        IntIntHashMap seen = new IntIntHashMap(sample);
+        for (int s = 0; s < sample; s++) {
+            seen.putIfAbsent(nums[(int) (s * stride)], 0);
+        }
+        return (double) seen.size() / sample <= HASH_TABLE_MAX_DISTINCT_RATIO
+            ? Strategy.HASH_TABLE
+            : Strategy.RADIX_SORT;
+    }
+
+    private static Result countingArrayMode(int[] nums, int min, int max) {
+        int[] counts = new int[max - min + 1];
+        for (int value : nums) {
+            counts[value - min]++;
+        }
+        int best = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[best]) {
+                best = i;
+            }
+        }
+        return new Result(min + best, counts[best], nums.length, Strategy.COUNTING_ARRAY);
+    }
+
+    private static Result hashTableMode(int[] nums) {
+        IntIntHashMap slots = new IntIntHashMap(Math.min(nums.length, 1 << 16));
+        int[] values = new int[64];
+        int[] counts = new int[64];
+        int distinct = 0;
+        for (int value : nums) {
+            int slot = slots.putIfAbsent(value, distinct);
+            if (slot == distinct) {
+                if (distinct == values.length) {
+                    values = Arrays.copyOf(values, distinct << 1);
+                    counts = Arrays.copyOf(counts, distinct << 1);
+                }
+                values[distinct++] = value;
+            }
+            counts[slot]++;
+        }
+        int best = 0;
+        for (int i = 1; i < distinct; i++) {
+            if (counts[i] > counts[best] || (counts[i] == counts[best] && values[i] < values[best])) {
+                best = i;
+            }
+        }
+        return new Result(values[best], counts[best], nums.length, Strategy.HASH_TABLE);
+    }
+
+    private static Result radixSortMode(int[] nums) {
+        int[] sorted = nums.clone();
+        americanFlagSort(sorted, 0, sorted.length, 24);
+
+        int bestValue = sorted[0];
+        int bestCount = 0;
+        int runStart = 0;
+        for (int i = 1; i <= sorted.length; i++) {
+            if (i == sorted.length || sorted[i] != sorted[runStart]) {
+                if (i - runStart > bestCount) {
+                    bestCount = i - runStart;
+                    bestValue = sorted[runStart];
+                }
+                runStart = i;
+            }
+        }
+        return new Result(bestValue, bestCount, nums.length, Strategy.RADIX_SORT);
+    }
+
+    // In-place MSD radix sort on bytes; the top byte has its sign bit flipped
+    // so the result is in signed order.
+    static void americanFlagSort(int[] a, int from, int to, int shift) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(a, from, to);
+            return;
+        }
+        int flip = shift == 24 ? 0x80 : 0;
+        int[] counts = new int[256];
+        for (int i = from; i < to; i++) {
+            counts[((a[i] >>> shift) & 0xFF) ^ flip]++;
+        }
+        int single = ((a[from] >>> shift) & 0xFF) ^ flip;
+        if (counts[single] == to - from) {
+            // Every element shares this digit: nothing to permute at this level.
+            if (shift > 0) {
+                americanFlagSort(a, from, to, shift - 8);
+            }
+            return;
+        }
+        int[] next = new int[256];
+        int[] end = new int[256];
+        int offset = from;
+        for (int d = 0; d < 256; d++) {
+            next[d] = offset;
+            offset += counts[d];
+            end[d] = offset;
+        }
+        for (int d = 0; d < 256; d++) {
+            while (next[d] < end[d]) {
+                int value = a[next[d]];
+                int digit = ((value >>> shift) & 0xFF) ^ flip;
+                while (digit != d) {
+                    int displaced = a[next[digit]];
+                    a[next[digit]++] = value;
+                    value = displaced;
+                    digit = ((value >>> shift) & 0xFF) ^ flip;
+                }
+                a[next[d]++] = value;
+            }
+        }
+        if (shift > 0) {
+            int start = from;
+            for (int d = 0; d < 256; d++) {
+                if (end[d] - start > 1) {
+                    americanFlagSort(a, start, end[d], shift - 8);
+                }
+                start = end[d];
+            }
+        }
+    }
+
+    private static void insertionSort(int[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int value = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > value) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    public static final class Result {
+        static final Result EMPTY = new Result(null, 0, 0, null);
+
+        private final Integer value;
+        private final int count;
+        private final int total;
+        private final Strategy strategy;
+
+        Result(Integer value, int count, int total, Strategy strategy) {
+            this.value = value;
+            this.count = count;
+            this.total = total;
+            this.strategy = strategy;
+        }
+
+        public Integer getValue() {
+            return value;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public boolean isMajority() {
+            return count > total / 2;
+        }
+
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ModeFinder.Result{value=%s, count=%d, total=%d, majority=%b, strategy=%s}",
+                value, count, total, isMajority(), strategy);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// Blocks of 128 ints, each bit-packed at its own width. FRAME_OF_REFERENCE
+// stores value - blockBase; DELTA stores zig-zagged differences to the
+// previous value (blockBase is the value before the block). Every block
+// also keeps its min and max, so a verification count can skip blocks that
+// cannot contain the candidate without decoding them.
+public final class PackedIntBlocks {
+
+    public enum Encoding {
+        FRAME_OF_REFERENCE,
+        DELTA
+    }
+
+    public static final int BLOCK_SIZE = 128;
+
+    private final Encoding encoding;
+    private final int length;
+    private final int[] blockBase;
+    private final int[] blockMin;
+    private final int[] blockMax;
+    private final byte[] blockWidth;
+    private final int[] blockWordOffset;
+    private final long[] words;
+
+    private PackedIntBlocks(Encoding encoding, int length, int[] blockBase, int[] blockMin, int[] blockMax,
+                            byte[] blockWidth, int[] blockWordOffset, long[] words) {
+        this.encoding = encoding;
+        this.length = length;
+        this.blockBase = blockBase;
+        this.blockMin = blockMin;
+        this.blockMax = blockMax;
+        this.blockWidth = blockWidth;
+        this.blockWordOffset = blockWordOffset;
+        this.words = words;
+    }
+
+    public static PackedIntBlocks encode(int[] nums, Encoding encoding) {
+        int blocks = (nums.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int[] base = new int[blocks];
+        int[] min = new int[blocks];
+        int[] max = new int[blocks];
+        byte[] width = new byte[blocks];
+        int[] wordOffset = new int[blocks + 1];
+        long[] words = new long[Math.max(16, nums.length / 4)];
+        long[] fields = new long[BLOCK_SIZE];
+
+        int previous = 0;
+        for (int b = 0; b < blocks; b++) {
+            int from = b * BLOCK_SIZE;
+            int n = Math.min(BLOCK_SIZE, nums.length - from);
+            int lo = nums[from];
+            int hi = nums[from];
+            for (int i = from; i < from + n; i++) {
+                lo = Math.min(lo, nums[i]);
+                hi = Math.max(hi, nums[i]);
+            }
+            min[b] = lo;
+            max[b] = hi;
+
+            long widest = 0;
+            if (encoding == Encoding.FRAME_OF_REFERENCE) {
+                base[b] = lo;
+                for (int i = 0; i < n; i++) {
+                    fields[i] = (long) nums[from + i] - lo;
+                    widest |= fields[i];
+                }
+            } else {
+                base[b] = previous;
+                for (int i = 0; i < n; i++) {
+                    int delta = nums[from + i] - previous;
+                    fields[i] = ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL;
+                    widest |= fields[i];
+                    previous = nums[from + i];
+                }
+            }
+
+            int w = 64 - Long.numberOfLeadingZeros(widest);
+            width[b] = (byte) w;
+            int needed = (n * w + 63) >>> 6;
+            if (wordOffset[b] + needed + 1 > words.length) {
+                words = Arrays.copyOf(words, Math.max(words.length << 1, wordOffset[b] + needed + 1));
+            }
+            for (int i = 0; i < n && w > 0; i++) {
+                long bit = (long) i * w;
+                int word = wordOffset[b] + (int) (bit >>> 6);
+                int shift = (int) (bit & 63);
+                words[word] |= fields[i] << shift;
+                if (shift + w > 64) {
+                    words[word + 1] |= fields[i] >>> (64 - shift);
+                }
+            }
+            wordOffset[b + 1] = wordOffset[b] + needed;
+        }
+        return new PackedIntBlocks(encoding, nums.length, base, min, max, width, wordOffset,
+            Arrays.copyOf(words, wordOffset[blocks] + 1));
+    }
+
+    public Encoding getEncoding() {
+        return encoding;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int blockCount() {
+        return blockBase.length;
+    }
+
+    // Compressed payload in bytes (packed words plus per-block metadata).
+    public long compressedBytes() {
+        return words.length * 8L + blockBase.length * (4L + 4 + 4 + 1 + 4);
+    }
+
+    // Decodes block b into out[0 .. n) and returns n; out needs BLOCK_SIZE
+    // slots. Fields are shifted out of a 64-bit buffer refilled one word at
+    // a time (words carries one padding word for the final refill), and
+    // DELTA blocks are prefix-summed afterwards while out is still in L1.
+    public int decodeBlock(int b, int[] out) {
+        int n = Math.min(BLOCK_SIZE, length - b * BLOCK_SIZE);
+        int w = blockWidth[b];
+        int base = blockBase[b];
+        if (w == 0) {
+            // Every field is zero: the block repeats base under both encodings.
+            Arrays.fill(out, 0, n, base);
+            return n;
+        }
+
+        long[] packed = words;
+        int word = blockWordOffset[b];
+        long mask = (1L << w) - 1;
+        long buffer = packed[word++];
+        int available = 64;
+        for (int i = 0; i < n; i++) {
+            long field;
+            if (available >= w) {
+                field = buffer;
+                buffer >>>= w;
+                available -= w;
+                if (available == 0) {
+                    buffer = packed[word++];
+                    available = 64;
+                }
+            } else {
+                long next = packed[word++];
+                field = buffer | (next << available);
+                buffer = next >>> (w - available);
+                available += 64 - w;
+            }
+            out[i] = (int) (field & mask);
+        }
+
+        if (encoding == Encoding.FRAME_OF_REFERENCE) {
+            for (int i = 0; i < n; i++) {
+                out[i] += base;
+            }
+        } else {
+            int previous = base;
+            for (int i = 0; i < n; i++) {
+                int f = out[i];
+                previous += (f >>> 1) ^ -(f & 1);
+                out[i] = previous;
+            }
+        }
+        return n;
+    }
+
+    public int[] decode() {
+        int[] nums = new int[length];
+        int[] batch = new int[BLOCK_SIZE];
+        for (int b = 0; b < blockCount(); b++) {
+            int n = decodeBlock(b, batch);
+            System.arraycopy(batch, 0, nums, b * BLOCK_SIZE, n);
+        }
+        return nums;
+    }
+
+    // Decodes one block at a time into a 512-byte batch that stays in L1 and
+    // votes over it with the branchless step of MajorityKernels, carrying
+    // (candidate, count) across blocks; a constant block is one weighted vote.
+    public MajoritySummary summary() {
+        int candidate = 0;
+        int count = 0;
+        int[] batch = new int[BLOCK_SIZE];
+        for (int b = 0; b < blockCount(); b++) {
+            if (blockMin[b] == blockMax[b]) {
+                int value = blockMin[b];
+                int weight = Math.min(BLOCK_SIZE, length - b * BLOCK_SIZE);
+                if (count == 0 || value == candidate) {
+                    candidate = value;
+                    count += weight;
+                } else if (count >= weight) {
+                    count -= weight;
+                } else {
+                    candidate = value;
+                    count = weight - count;
+                }
+                continue;
+            }
+            int n = decodeBlock(b, batch);
+            for (int i = 0; i < n; i++) {
+                int value = batch[i];
+                candidate ^= (candidate ^ value) & ((count - 1) >> 31);
+                count += 1 - (MajorityKernels.differs(value, candidate) << 1);
+            }
+        }
+        return new MajoritySummary(candidate, count, length);
+    }
+
+    public long count(int value) {
+        long occurrences = 0;
+        int[] batch = new int[BLOCK_SIZE];
+        for (int b = 0; b < blockCount(); b++) {
+            if (value < blockMin[b] || value > blockMax[b]) {
+                continue;
+            }
+            if (blockMin[b] == blockMax[b]) {
+                occurrences += Math.min(BLOCK_SIZE, length - b * BLOCK_SIZE);
+                continue;
+            }
+            int n = decodeBlock(b, batch);
+            occurrences += MajorityKernels.countUnrolled(batch, 0, n, value);
+        }
+        return occurrences;
+    }
+}
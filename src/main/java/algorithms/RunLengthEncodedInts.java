@@ -0,0 +1,91 @@
+package algorithms;
+
+import java.util.Arrays;
+
+// Run-length encoded int sequence: (value, run length) pairs. A run is one
+// weighted Boyer-Moore step, so a majority costs O(runs), not O(values).
+public final class RunLengthEncodedInts {
+
+    private final int[] values;
+    private final long[] lengths;
+    private final long total;
+
+    RunLengthEncodedInts(int[] values, long[] lengths) {
+        if (values.length != lengths.length) {
+            throw new IllegalArgumentException("Run values and lengths differ in length");
+        }
+        long sum = 0;
+        for (long length : lengths) {
+            if (length < 1) {
+                throw new IllegalArgumentException("Run length must be positive: " + length);
+            }
+            sum = Math.addExact(sum, length);
+        }
+        this.values = values;
+        this.lengths = lengths;
+        this.total = sum;
+    }
+
+    public static RunLengthEncodedInts of(int[] values, long[] lengths) {
+        return new RunLengthEncodedInts(values.clone(), lengths.clone());
+    }
+
+    public static RunLengthEncodedInts encode(int[] nums) {
+        int[] values = new int[16];
+        long[] lengths = new long[16];
+        int runs = 0;
+        for (int i = 0; i < nums.length; ) {
+            int start = i;
+            int value = nums[i];
+            while (i < nums.length && nums[i] == value) {
+                i++;
+            }
+            if (runs == values.length) {
+                values = Arrays.copyOf(values, runs << 1);
+                lengths = Arrays.copyOf(lengths, runs << 1);
+            }
+            values[runs] = value;
+            lengths[runs++] = i - start;
+        }
+        return new RunLengthEncodedInts(Arrays.copyOf(values, runs), Arrays.copyOf(lengths, runs));
+    }
+
+    public int[] decode() {
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many values for an int[]: " + total);
+        }
+        int[] nums = new int[(int) total];
+        int at = 0;
+        for (int r = 0; r < values.length; r++) {
+            Arrays.fill(nums, at, at + (int) lengths[r], values[r]);
+            at += (int) lengths[r];
+        }
+        return nums;
+    }
+
+    public long length() {
+        return total;
+    }
+
+    public int runCount() {
+        return values.length;
+    }
+
+    public MajoritySummary summary() {
+        MajoritySummary summary = new MajoritySummary();
+        for (int r = 0; r < values.length; r++) {
+            summary.add(values[r], lengths[r]);
+        }
+        return summary;
+    }
+
+    public long count(int value) {
+        long occurrences = 0;
+        for (int r = 0; r < values.length; r++) {
+            if (values[r] == value) {
+                occurrences += lengths[r];
+            }
+        }
+        return occurrences;
+    }
+}
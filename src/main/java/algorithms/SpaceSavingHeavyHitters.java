@@ -0,0 +1,231 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Space-Saving top-k with the Stream-Summary layout: counters with equal
+// counts share a bucket, buckets form a list ordered by count, so every
+// offer is O(1) and memory stays O(k). All state lives in primitive arrays.
+public class SpaceSavingHeavyHitters {
+
+    private static final int NONE = -1;
+
+    private final int capacity;
+    private final IntIntHashMap index;
+
+    private final int[] counterKey;
+    private final long[] counterError;
+    private final int[] counterBucket;
+    private final int[] counterPrev;
+    private final int[] counterNext;
+    private int counters;
+
+    private final long[] bucketCount;
+    private final int[] bucketHead;
+    private final int[] bucketPrev;
+    private final int[] bucketNext;
+    private final int[] freeBuckets;
+    private int freeBucketCount;
+    private int minBucket = NONE;
+    private int maxBucket = NONE;
+
+    private long total;
+
+    public SpaceSavingHeavyHitters(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.index = new IntIntHashMap(capacity);
+        this.counterKey = new int[capacity];
+        this.counterError = new long[capacity];
+        this.counterBucket = new int[capacity];
+        this.counterPrev = new int[capacity];
+        this.counterNext = new int[capacity];
+
+        // A new bucket is linked before the old one is released, hence k + 1.
+        int buckets = capacity + 1;
+        this.bucketCount = new long[buckets];
+        this.bucketHead = new int[buckets];
+        this.bucketPrev = new int[buckets];
+        this.bucketNext = new int[buckets];
+        this.freeBuckets = new int[buckets];
+        for (int b = buckets - 1; b >= 0; b--) {
+            freeBuckets[freeBucketCount++] = b;
+        }
+    }
+
+    public void offer(int value) {
+        total++;
+        int counter = index.get(value, NONE);
+        if (counter != NONE) {
+            increment(counter);
+            return;
+        }
+
+        if (counters < capacity) {
+            counter = counters++;
+            counterKey[counter] = value;
+            counterError[counter] = 0;
+            index.put(value, counter);
+            if (minBucket != NONE && bucketCount[minBucket] == 1) {
+                attach(counter, minBucket);
+            } else {
+                int bucket = newBucket(1, NONE, minBucket);
+                attach(counter, bucket);
+            }
+            return;
+        }
+
+        // Evict a counter with the minimum count and inherit it as error.
+        counter = bucketHead[minBucket];
+        index.remove(counterKey[counter]);
+        counterKey[counter] = value;
+        counterError[counter] = bucketCount[minBucket];
+        index.put(value, counter);
+        increment(counter);
+    }
+
+    public void offer(int[] chunk) {
+        offer(chunk, 0, chunk.length);
+    }
+
+    public void offer(int[] chunk, int from, int to) {
+        for (int i = from; i < to; i++) {
+            offer(chunk[i]);
+        }
+    }
+
+    private void increment(int counter) {
+        int bucket = counterBucket[counter];
+        long next = bucketCount[bucket] + 1;
+        int following = bucketNext[bucket];
+
+        detach(counter);
+        if (following != NONE && bucketCount[following] == next) {
+            attach(counter, following);
+        } else {
+            attach(counter, newBucket(next, bucket, following));
+        }
+        if (bucketHead[bucket] == NONE) {
+            releaseBucket(bucket);
+        }
+    }
+
+    private int newBucket(long count, int prev, int next) {
+        int bucket = freeBuckets[--freeBucketCount];
+        bucketCount[bucket] = count;
+        bucketHead[bucket] = NONE;
+        bucketPrev[bucket] = prev;
+        bucketNext[bucket] = next;
+        if (prev != NONE) {
+            bucketNext[prev] = bucket;
+        } else {
+            minBucket = bucket;
+        }
+        if (next != NONE) {
+            bucketPrev[next] = bucket;
+        } else {
+            maxBucket = bucket;
+        }
+        return bucket;
+    }
+
+    private void releaseBucket(int bucket) {
+        int prev = bucketPrev[bucket];
+        int next = bucketNext[bucket];
+        if (prev != NONE) {
+            bucketNext[prev] = next;
+        } else {
+            minBucket = next;
+        }
+        if (next != NONE) {
+            bucketPrev[next] = prev;
+        } else {
+            maxBucket = prev;
+        }
+        freeBuckets[freeBucketCount++] = bucket;
+    }
+
+    private void attach(int counter, int bucket) {
+        int head = bucketHead[bucket];
+        counterBucket[counter] = bucket;
+        counterPrev[counter] = NONE;
+        counterNext[counter] = head;
+        if (head != NONE) {
+            counterPrev[head] = counter;
+        }
+        bucketHead[bucket] = counter;
+    }
+
+    private void detach(int counter) {
+        int prev = counterPrev[counter];
+        int next = counterNext[counter];
+        if (prev != NONE) {
+            counterNext[prev] = next;
+        } else {
+            bucketHead[counterBucket[counter]] = next;
+        }
+        if (next != NONE) {
+            counterPrev[next] = prev;
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return counters;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    // Upper bound on the count of any value that is not currently monitored.
+    public long getMinimumCount() {
+        return counters < capacity || minBucket == NONE ? 0 : bucketCount[minBucket];
+    }
+
+    public long estimate(int value) {
+        int counter = index.get(value, NONE);
+        return counter == NONE ? getMinimumCount() : bucketCount[counterBucket[counter]];
+    }
+
+    public List<Entry> topK() {
+        return topK(counters);
+    }
+
+    public List<Entry> topK(int k) {
+        List<Entry> entries = new ArrayList<>(Math.min(k, counters));
+        for (int bucket = maxBucket; bucket != NONE && entries.size() < k; bucket = bucketPrev[bucket]) {
+            for (int c = bucketHead[bucket]; c != NONE && entries.size() < k; c = counterNext[c]) {
+                entries.add(new Entry(counterKey[c], bucketCount[bucket], counterError[c]));
+            }
+        }
+        return entries;
+    }
+
+    public static final class Entry {
+        public final int value;
+        public final long count;
+        public final long error;
+
+        Entry(int value, long count, long error) {
+            this.value = value;
+            this.count = count;
+            this.error = error;
+        }
+
+        // The true frequency lies in [count - error, count].
+        public long guaranteedCount() {
+            return count - error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Entry{value=%d, count=%d, error=%d}", value, count, error);
+        }
+    }
+}
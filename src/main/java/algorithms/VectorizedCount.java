@@ -0,0 +1,57 @@
+package algorithms;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+// Equality count that uses IntVectorKernels (built by the jdk17-vector
+// profile) when the class and the jdk.incubator.vector module are both
+// present at run time, and the unrolled scalar kernel otherwise.
+public final class VectorizedCount {
+    
+    private static final MethodHandle VECTOR_COUNT;
+    private static final String DESCRIPTION;
+    
+    static {
+        MethodHandle count = null;
+        String description = "scalar";
+        try {
+            Class<?> kernels = Class.forName("algorithms.IntVectorKernels");
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            count = lookup.findStatic(kernels, "count",
+                MethodType.methodType(int.class, int[].class, int.class, int.class, int.class));
+            description = (String) lookup.findStatic(kernels, "describe", MethodType.methodType(String.class)).invoke();
+        } catch (Throwable t) {
+            // Class not built (JDK 11), compiled for a newer JDK, or the
+            // incubator module not added: all mean "use the scalar kernel".
+            count = null;
+            description = "scalar";
+        }
+        VECTOR_COUNT = count;
+        DESCRIPTION = description;
+    }
+    
+    private VectorizedCount() {
+    }
+    
+    public static boolean isVectorized() {
+        return VECTOR_COUNT != null;
+    }
+    
+    public static String describe() {
+        return DESCRIPTION;
+    }
+    
+    public static int count(int[] nums, int from, int to, int value) {
+        if (VECTOR_COUNT == null) {
+            return MajorityKernels.countUnrolled(nums, from, to, value);
+        }
+        try {
+            return (int) VECTOR_COUNT.invokeExact(nums, from, to, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
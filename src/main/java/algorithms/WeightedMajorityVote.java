@@ -0,0 +1,193 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.util.stream.IntStream;
+
+// Weighted Boyer-Moore: finds the value holding more than half of the total
+// weight of the (values[i], weights[i]) pairs. Each pair is one weighted
+// MajoritySummary step, so chunk summaries merge with the same algebra as
+// unweighted ones. Totals use addExact: a weight sum past Long.MAX_VALUE
+// throws ArithmeticException instead of wrapping into a wrong answer.
+public class WeightedMajorityVote {
+
+    static final int PARALLEL_CHUNK = 1 << 16;
+
+    private PerformanceTracker tracker;
+
+    public WeightedMajorityVote() {
+        this.tracker = new PerformanceTracker("Weighted Boyer-Moore Majority Vote");
+    }
+
+    public Integer findMajorityElement(int[] values, long[] weights) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+        checkLengths(values, weights);
+
+        tracker.reset();
+        tracker.setInputCharacteristics(values.length, "weighted");
+        tracker.startTiming();
+
+        MajoritySummary summary = summarize(values, weights, 0, values.length);
+        Integer result = null;
+        if (summary.hasCandidate()) {
+            long candidateWeight = weightOf(values, weights, 0, values.length, summary.getCandidate());
+            result = summary.isMajority(candidateWeight) ? summary.getCandidate() : null;
+        }
+
+        tracker.addArrayAccesses(4L * values.length);
+        tracker.addComparisons(2L * values.length);
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    // Chunk-local weighted summaries merged in parallel, then a parallel sum
+    // of the merged candidate's weight.
+    public Integer findMajorityElementParallel(int[] values, long[] weights) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+        checkLengths(values, weights);
+
+        tracker.reset();
+        tracker.setInputCharacteristics(values.length, "weighted-parallel");
+        tracker.startTiming();
+
+        int n = values.length;
+        int chunks = (n + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        MajoritySummary merged = IntStream.range(0, chunks).parallel()
+            .mapToObj(c -> summarize(values, weights, c * PARALLEL_CHUNK, chunkEnd(c, n)))
+            .reduce(new MajoritySummary(), (a, b) -> a.copy().merge(b));
+        Integer result = null;
+        if (merged.hasCandidate()) {
+            int candidate = merged.getCandidate();
+            // Bounded by the merged total, which addExact already proved fits.
+            long candidateWeight = IntStream.range(0, chunks).parallel()
+                .mapToLong(c -> weightOf(values, weights, c * PARALLEL_CHUNK, chunkEnd(c, n), candidate))
+                .sum();
+            result = merged.isMajority(candidateWeight) ? candidate : null;
+        }
+
+        tracker.addArrayAccesses(4L * n);
+        tracker.addComparisons(2L * n);
+        tracker.addMemoryAllocations(chunks);
+        tracker.endTiming();
+        tracker.storeResult();
+        return result;
+    }
+
+    // The weighted step of MajoritySummary.add(value, weight), kept in locals.
+    public static MajoritySummary summarize(int[] values, long[] weights, int from, int to) {
+        int candidate = 0;
+        long count = 0;
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            long weight = weights[i];
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight " + weight + " at index " + i);
+            }
+            if (weight == 0) {
+                continue;
+            }
+            total = Math.addExact(total, weight);
+            int value = values[i];
+            if (count == 0 || value == candidate) {
+                candidate = value;
+                count += weight;
+            } else if (count >= weight) {
+                count -= weight;
+            } else {
+                candidate = value;
+                count = weight - count;
+            }
+        }
+        return new MajoritySummary(candidate, count, total);
+    }
+
+    // Total weight of candidate in [from, to); never more than the total.
+    static long weightOf(int[] values, long[] weights, int from, int to, int candidate) {
+        long weight = 0;
+        for (int i = from; i < to; i++) {
+            if (values[i] == candidate) {
+                weight += weights[i];
+            }
+        }
+        return weight;
+    }
+
+    private static int chunkEnd(int chunk, int n) {
+        return (int) Math.min(n, (long) (chunk + 1) * PARALLEL_CHUNK);
+    }
+
+    private static void checkLengths(int[] values, long[] weights) {
+        if (weights == null || weights.length != values.length) {
+            throw new IllegalArgumentException("Expected " + values.length + " weights, got "
+                + (weights == null ? "null" : String.valueOf(weights.length)));
+        }
+    }
+
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+
+    // Chunked streaming form: chunks go through add() for the vote and, if
+    // the stream can be replayed, through verify() for the exact answer.
+    // Without a replay, candidate() is the usual unverified nominee. The
+    // first verify() fixes the candidate; add() is rejected from then on,
+    // since a later vote could elect a value the verified weight is not for.
+    public static final class Accumulator {
+        private final MajoritySummary summary = new MajoritySummary();
+        private boolean verifying;
+        private long verifiedTotal;
+        private long candidateWeight;
+
+        public Accumulator add(int[] values, long[] weights, int from, int to) {
+            if (verifying) {
+                throw new IllegalStateException("Cannot add after verification has started");
+            }
+            summary.merge(summarize(values, weights, from, to));
+            return this;
+        }
+
+        public Integer candidate() {
+            return summary.getCandidate();
+        }
+
+        public Accumulator verify(int[] values, long[] weights, int from, int to) {
+            verifying = true;
+            if (!summary.hasCandidate()) {
+                return this;
+            }
+            int candidate = summary.getCandidate();
+            for (int i = from; i < to; i++) {
+                long weight = weights[i];
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Negative weight " + weight + " at index " + i);
+                }
+                verifiedTotal = Math.addExact(verifiedTotal, weight);
+                if (values[i] == candidate) {
+                    candidateWeight += weight;
+                }
+            }
+            return this;
+        }
+
+        // The exact majority once every chunk has been verified, else null.
+        public Integer result() {
+            if (!summary.hasCandidate()) {
+                return null;
+            }
+            if (verifiedTotal != summary.getTotal()) {
+                throw new IllegalStateException("Verified weight " + verifiedTotal
+                    + " does not match the voted total " + summary.getTotal());
+            }
+            return summary.isMajority(candidateWeight) ? summary.getCandidate() : null;
+        }
+
+        public MajoritySummary summary() {
+            return summary.copy();
+        }
+    }
+}
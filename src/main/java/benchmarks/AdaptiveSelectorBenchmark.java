@@ -0,0 +1,76 @@
+package benchmarks;
+
+import algorithms.AdaptiveMajoritySelector;
+import algorithms.BoyerMooreMajorityVote;
+import cli.BenchmarkRunner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class AdaptiveSelectorBenchmark {
+    
+    @Param({"10000", "1000000", "4000000"})
+    private int size;
+    
+    @Param({"random", "sorted", "reverse-sorted", "nearly-sorted", "majority-heavy"})
+    private String distribution;
+    
+    private int[] data;
+    private BoyerMooreMajorityVote algorithm;
+    private AdaptiveMajoritySelector selector;
+    
+    @Setup
+    public void setup() {
+        data = new BenchmarkRunner().generateTestData(size, distribution);
+        algorithm = new BoyerMooreMajorityVote();
+        selector = new AdaptiveMajoritySelector();
+    }
+    
+    @Benchmark
+    public Integer trackedBaseline() {
+        return algorithm.findMajorityElement(data, "jmh-adaptive-baseline");
+    }
+    
+    @Benchmark
+    public Integer adaptive() {
+        return selector.findMajorityElement(data);
+    }
+    
+    @Benchmark
+    public Integer forcedBoyerMoore() {
+        return selector.findMajorityElement(data, AdaptiveMajoritySelector.Strategy.BOYER_MOORE);
+    }
+    
+    @Benchmark
+    public Integer forcedCountingTable() {
+        return selector.findMajorityElement(data, AdaptiveMajoritySelector.Strategy.COUNTING_TABLE);
+    }
+    
+    @Benchmark
+    public Integer forcedSortedRun() {
+        return selector.findMajorityElement(data, AdaptiveMajoritySelector.Strategy.SORTED_RUN);
+    }
+    
+    @Benchmark
+    public Integer forcedParallel() {
+        return selector.findMajorityElement(data, AdaptiveMajoritySelector.Strategy.PARALLEL);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AdaptiveSelectorBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks;
+
+import algorithms.AnytimeMajority;
+import algorithms.MajorityKernels;
+import cli.BenchmarkRunner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Latency distribution (SampleTime percentiles) of the budgeted vote under
+// tight budgets vs the unbounded two-pass kernel. The median overshoot is
+// about one block; the far tail is pauses (GC, preemption) that a check
+// between blocks cannot cut short.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class AnytimeMajorityBenchmark {
+
+    @Param({"4000000"})
+    private int size;
+
+    @Param({"random", "majority-heavy"})
+    private String distribution;
+
+    @Param({"50", "200", "1000"})
+    private long budgetMicros;
+
+    private int[] data;
+    private AnytimeMajority engine;
+
+    @Setup
+    public void setup() {
+        data = new BenchmarkRunner().generateTestData(size, distribution);
+        engine = new AnytimeMajority(42);
+    }
+
+    @Benchmark
+    public AnytimeMajority.Result budgeted() {
+        return engine.findMajorityElement(data, budgetMicros, TimeUnit.MICROSECONDS);
+    }
+
+    @Benchmark
+    public Integer unbounded() {
+        return MajorityKernels.majority(data);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AnytimeMajorityBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import algorithms.BigIntArray;
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.MajorityKernels;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Segmented long-indexed storage against a flat int[] of the same length.
+// The default length fits a laptop; for the multi-billion case run e.g.
+//   -p length=6000000000 -jvmArgsAppend "-Xmx30g -XX:MaxDirectMemorySize=30g"
+// (the int[] baseline is skipped once length no longer fits an array).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g", "-XX:MaxDirectMemorySize=3g"})
+@Warmup(iterations = 2, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public class BigArrayBenchmark {
+    
+    @Param({"200000000"})
+    private long length;
+    
+    @Param({"heap", "off-heap"})
+    private String storage;
+    
+    private BigIntArray big;
+    private int[] flat;
+    private BoyerMooreMajorityVote algorithm;
+    
+    @Setup
+    public void setup() {
+        big = "off-heap".equals(storage) ? BigIntArray.offHeap(length) : BigIntArray.onHeap(length);
+        big.setAll(BigArrayBenchmark::value);
+        if ("heap".equals(storage) && length <= Integer.MAX_VALUE - 8) {
+            flat = new int[(int) length];
+            for (int i = 0; i < flat.length; i++) {
+                flat[i] = value(i);
+            }
+        }
+        algorithm = new BoyerMooreMajorityVote();
+    }
+    
+    // ~60% sevens, otherwise a cheap hash of the index.
+    private static int value(long index) {
+        long h = index * 0x9E3779B97F4A7C15L;
+        return (h >>> 60) < 10 ? 7 : (int) (h >>> 40) & 1023;
+    }
+    
+    @Benchmark
+    public Integer flatArrayBaseline() {
+        return flat == null ? null : MajorityKernels.majority(flat);
+    }
+    
+    @Benchmark
+    public Integer segmentedSequential() {
+        return algorithm.findMajorityElementInBigArray(big);
+    }
+    
+    @Benchmark
+    public Integer segmentedParallel() {
+        return algorithm.findMajorityElementInBigArrayParallel(big);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BigArrayBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
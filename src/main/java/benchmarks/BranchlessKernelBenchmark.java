@@ -0,0 +1,88 @@
+package benchmarks;
+
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.MajorityKernels;
+import cli.BenchmarkRunner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.LinuxPerfAsmProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Branching vs branchless election and scalar vs 4-way verification, per
+// distribution. Each pass is its own benchmark so perfasm attributes hot
+// code to exactly one loop; run with "perfasm" (or -prof perfasm) to get
+// the annotated assembly.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class BranchlessKernelBenchmark {
+    
+    @Param({"100000", "1000000"})
+    private int size;
+    
+    @Param({"random", "sorted", "reverse-sorted", "nearly-sorted", "majority-heavy"})
+    private String distribution;
+    
+    private int[] data;
+    private int candidate;
+    private BoyerMooreMajorityVote algorithm;
+    
+    @Setup
+    public void setup() {
+        data = new BenchmarkRunner().generateTestData(size, distribution);
+        candidate = MajorityKernels.candidate(data, 0, data.length);
+        algorithm = new BoyerMooreMajorityVote();
+    }
+    
+    @Benchmark
+    public int candidateBranching() {
+        return MajorityKernels.candidate(data, 0, data.length);
+    }
+    
+    @Benchmark
+    public int candidateBranchless() {
+        return MajorityKernels.candidateBranchless(data, 0, data.length);
+    }
+    
+    @Benchmark
+    public int countScalar() {
+        return MajorityKernels.count(data, 0, data.length, candidate);
+    }
+    
+    @Benchmark
+    public int countUnrolled() {
+        return MajorityKernels.countUnrolled(data, 0, data.length, candidate);
+    }
+    
+    @Benchmark
+    public Integer majorityBranching() {
+        return MajorityKernels.majority(data);
+    }
+    
+    @Benchmark
+    public Integer majorityBranchless() {
+        return MajorityKernels.majorityBranchless(data);
+    }
+    
+    @Benchmark
+    public Integer trackedBranchless() {
+        return algorithm.findMajorityElementBranchless(data);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(BranchlessKernelBenchmark.class.getSimpleName());
+        if (args.length > 0 && "perfasm".equals(args[0])) {
+            options.addProfiler(LinuxPerfAsmProfiler.class);
+        }
+        
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,122 @@
+package benchmarks;
+
+import algorithms.BoyerMooreMajorityVote;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class BufferMajorityBenchmark {
+    
+    @Param({"10000", "1000000"})
+    private int size;
+    
+    private BoyerMooreMajorityVote algorithm;
+    private int[] heapArray;
+    private IntBuffer heapIntBuffer;
+    private IntBuffer directIntBuffer;
+    private ByteBuffer directNativeOrder;
+    private ByteBuffer directBigEndian;
+    private ByteBuffer directLittleEndian;
+    
+    @Setup
+    public void setup() {
+        algorithm = new BoyerMooreMajorityVote();
+        heapArray = generateMajorityArray(size, new Random(42));
+        
+        heapIntBuffer = IntBuffer.wrap(heapArray);
+        directNativeOrder = fill(ByteOrder.nativeOrder());
+        directBigEndian = fill(ByteOrder.BIG_ENDIAN);
+        directLittleEndian = fill(ByteOrder.LITTLE_ENDIAN);
+        directIntBuffer = directNativeOrder.duplicate().order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+    
+    private ByteBuffer fill(ByteOrder order) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size * Integer.BYTES).order(order);
+        for (int value : heapArray) {
+            buffer.putInt(value);
+        }
+        buffer.flip();
+        return buffer;
+    }
+    
+    static int[] generateMajorityArray(int size, Random random) {
+        int[] array = new int[size];
+        int majorityCount = size / 2 + 1;
+        
+        for (int i = 0; i < majorityCount; i++) {
+            array[i] = 42;
+        }
+        
+        for (int i = majorityCount; i < size; i++) {
+            array[i] = random.nextInt(1000);
+        }
+        
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+        
+        return array;
+    }
+    
+    @Benchmark
+    public Integer heapArray() {
+        return algorithm.findMajorityElement(heapArray, "jmh-heap");
+    }
+    
+    @Benchmark
+    public Integer heapArrayCopiedFromDirect() {
+        int[] copy = new int[size];
+        directNativeOrder.duplicate().order(ByteOrder.nativeOrder()).asIntBuffer().get(copy);
+        return algorithm.findMajorityElement(copy, "jmh-copy");
+    }
+    
+    @Benchmark
+    public Integer heapIntBuffer() {
+        return algorithm.findMajorityElementInBuffer(heapIntBuffer);
+    }
+    
+    @Benchmark
+    public Integer directIntBuffer() {
+        return algorithm.findMajorityElementInBuffer(directIntBuffer);
+    }
+    
+    @Benchmark
+    public Integer directByteBufferNativeOrder() {
+        return algorithm.findMajorityElementInBuffer(directNativeOrder);
+    }
+    
+    @Benchmark
+    public Integer directByteBufferBigEndian() {
+        return algorithm.findMajorityElementInBuffer(directBigEndian);
+    }
+    
+    @Benchmark
+    public Integer directByteBufferLittleEndian() {
+        return algorithm.findMajorityElementInBuffer(directLittleEndian);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BufferMajorityBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
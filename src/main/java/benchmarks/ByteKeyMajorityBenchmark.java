@@ -0,0 +1,92 @@
+package benchmarks;
+
+import algorithms.ByteKeyMajority;
+import algorithms.MajorityKernels;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Fingerprinted byte-key vote straight from a UTF-8 buffer vs the String
+// route: decode every key, intern it into an int id, then run the int[] kernel.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ByteKeyMajorityBenchmark {
+
+    @Param({"1000000"})
+    private int keys;
+
+    @Param({"region-codes", "skus", "user-agents"})
+    private String dataset;
+
+    private byte[] data;
+    private int[] offsets;
+    private ByteKeyMajority engine;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[1000];
+        for (int v = 0; v < vocabulary.length; v++) {
+            switch (dataset) {
+                case "region-codes":
+                    vocabulary[v] = "r" + Integer.toString(v, 36);
+                    break;
+                case "skus":
+                    vocabulary[v] = String.format("SKU-%09d-%c", 1_000_000 + v * 7919, (char) ('A' + v % 26));
+                    break;
+                default:
+                    vocabulary[v] = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+                        + "(KHTML, like Gecko) Chrome/" + (90 + v / 100) + ".0." + v + " Safari/537.36";
+                    break;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        offsets = new int[keys + 1];
+        for (int i = 0; i < keys; i++) {
+            offsets[i] = out.size();
+            String key = random.nextInt(10) < 6 ? vocabulary[0] : vocabulary[random.nextInt(vocabulary.length)];
+            out.writeBytes(key.getBytes(StandardCharsets.UTF_8));
+        }
+        offsets[keys] = out.size();
+        data = out.toByteArray();
+        engine = new ByteKeyMajority();
+    }
+
+    @Benchmark
+    public Integer byteKeys() {
+        return engine.findMajorityElement(data, offsets);
+    }
+
+    @Benchmark
+    public Integer internThenScan() {
+        Map<String, Integer> ids = new HashMap<>();
+        int[] interned = new int[keys];
+        for (int i = 0; i < keys; i++) {
+            String key = new String(data, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+            interned[i] = ids.computeIfAbsent(key, k -> ids.size());
+        }
+        return MajorityKernels.majority(interned);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ByteKeyMajorityBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,119 @@
+package benchmarks;
+
+import algorithms.CheckpointFile;
+import algorithms.CheckpointedAccumulator;
+import algorithms.MajoritySummary;
+import algorithms.MisraGriesSummary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Ingest throughput (events/us) with a checkpoint every `interval` events,
+// with and without msync. interval = 0 is the unchecked baseline.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class CheckpointBenchmark {
+    
+    static final int BATCH = 1024;
+    
+    @Param({"0", "10000", "1000000", "100000000"})
+    private long interval;
+    
+    @Param({"true", "false"})
+    private boolean durable;
+    
+    private int[] events;
+    private int next;
+    private Path directory;
+    private MajoritySummary plainMajority;
+    private MisraGriesSummary plainHeavy;
+    private CheckpointedAccumulator<MajoritySummary> majority;
+    private CheckpointedAccumulator<MisraGriesSummary> heavy;
+    
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        events = new int[1 << 20];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = random.nextInt(10) < 6 ? 42 : random.nextInt(1000);
+        }
+        plainMajority = new MajoritySummary();
+        plainHeavy = new MisraGriesSummary(64);
+        directory = Files.createTempDirectory("checkpoint-bench");
+        if (interval > 0) {
+            majority = new CheckpointedAccumulator<>(
+                new CheckpointFile(directory.resolve("majority.ckpt"), MajoritySummary.ENCODED_SIZE, durable),
+                interval, MajoritySummary::new, MajoritySummary::fromBytes, MajoritySummary::toBytes);
+            heavy = new CheckpointedAccumulator<>(
+                new CheckpointFile(directory.resolve("heavy.ckpt"), MisraGriesSummary.encodedSize(64), durable),
+                interval, () -> new MisraGriesSummary(64), MisraGriesSummary::fromBytes, MisraGriesSummary::toBytes);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        if (majority != null) {
+            majority.close();
+            heavy.close();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+    
+    private int nextBatch() {
+        int from = next;
+        next = (next + BATCH) & (events.length - 1);
+        return from;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long majorityIngest() {
+        int from = nextBatch();
+        if (majority == null) {
+            plainMajority.addAll(events, from, from + BATCH);
+            return plainMajority.getCount();
+        }
+        majority.state().addAll(events, from, from + BATCH);
+        majority.recorded(BATCH);
+        return majority.state().getCount();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long heavyHitterIngest() {
+        int from = nextBatch();
+        if (heavy == null) {
+            plainHeavy.addAll(events, from, from + BATCH);
+            return plainHeavy.getTotal();
+        }
+        heavy.state().addAll(events, from, from + BATCH);
+        heavy.recorded(BATCH);
+        return heavy.state().getTotal();
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CheckpointBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,108 @@
+package benchmarks;
+
+import algorithms.CompressedMajority;
+import algorithms.MajorityKernels;
+import algorithms.PackedIntBlocks;
+import algorithms.RunLengthEncodedInts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Direct kernels over each encoding vs decompress-then-scan. The data sets
+// suit the encodings differently: long runs (RLE), a narrow value range
+// (frame-of-reference) and slowly increasing ids (delta).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class CompressedMajorityBenchmark {
+    
+    @Param({"1000000"})
+    private int size;
+    
+    @Param({"long-runs", "narrow-range", "increasing-ids"})
+    private String dataset;
+    
+    private RunLengthEncodedInts runs;
+    private PackedIntBlocks frameOfReference;
+    private PackedIntBlocks delta;
+    private CompressedMajority engine;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        int[] data = new int[size];
+        switch (dataset) {
+            case "long-runs":
+                for (int i = 0; i < size; ) {
+                    int value = random.nextInt(10) < 6 ? 7 : random.nextInt(100);
+                    int end = Math.min(size, i + 1 + random.nextInt(200));
+                    while (i < end) {
+                        data[i++] = value;
+                    }
+                }
+                break;
+            case "narrow-range":
+                for (int i = 0; i < size; i++) {
+                    data[i] = 500_000 + (random.nextInt(10) < 6 ? 7 : random.nextInt(64));
+                }
+                break;
+            default:
+                int id = 1_000_000;
+                for (int i = 0; i < size; i++) {
+                    id += random.nextInt(4);
+                    data[i] = id;
+                }
+                break;
+        }
+        runs = RunLengthEncodedInts.encode(data);
+        frameOfReference = PackedIntBlocks.encode(data, PackedIntBlocks.Encoding.FRAME_OF_REFERENCE);
+        delta = PackedIntBlocks.encode(data, PackedIntBlocks.Encoding.DELTA);
+        engine = new CompressedMajority();
+    }
+    
+    @Benchmark
+    public Integer rleDirect() {
+        return engine.findMajorityElement(runs);
+    }
+    
+    @Benchmark
+    public Integer rleDecodeThenScan() {
+        return MajorityKernels.majority(runs.decode());
+    }
+    
+    @Benchmark
+    public Integer frameOfReferenceDirect() {
+        return engine.findMajorityElement(frameOfReference);
+    }
+    
+    @Benchmark
+    public Integer frameOfReferenceDecodeThenScan() {
+        return MajorityKernels.majority(frameOfReference.decode());
+    }
+    
+    @Benchmark
+    public Integer deltaDirect() {
+        return engine.findMajorityElement(delta);
+    }
+    
+    @Benchmark
+    public Integer deltaDecodeThenScan() {
+        return MajorityKernels.majority(delta.decode());
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CompressedMajorityBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
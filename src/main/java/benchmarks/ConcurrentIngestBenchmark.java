@@ -0,0 +1,112 @@
+package benchmarks;
+
+import algorithms.ConcurrentMajorityAccumulator;
+import algorithms.MajoritySummary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Multi-producer ingest: per-thread cells vs one summary behind a global
+// lock. main() repeats the run for 1, 2, 4, ... threads up to the core
+// count so the scaling curve comes out of a single invocation; results are
+// events per microsecond summed over all producer threads.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ConcurrentIngestBenchmark {
+    
+    static final int BATCH = 256;
+    
+    @State(Scope.Benchmark)
+    public static class Shared {
+        ConcurrentMajorityAccumulator accumulator;
+        MajoritySummary locked;
+        
+        @Setup(Level.Iteration)
+        public void setup() {
+            accumulator = new ConcurrentMajorityAccumulator();
+            locked = new MajoritySummary();
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Producer {
+        private static final AtomicInteger SEEDS = new AtomicInteger();
+        
+        int[] events;
+        int next;
+        
+        @Setup
+        public void setup() {
+            Random random = new Random(SEEDS.incrementAndGet());
+            events = new int[1 << 16];
+            for (int i = 0; i < events.length; i++) {
+                events[i] = random.nextInt(10) < 6 ? 42 : random.nextInt(1000);
+            }
+        }
+        
+        int nextEvent() {
+            int value = events[next];
+            next = (next + 1) & (events.length - 1);
+            return value;
+        }
+        
+        int nextBatch() {
+            int from = next;
+            next = (next + BATCH) & (events.length - 1);
+            return from;
+        }
+    }
+    
+    @Benchmark
+    public void stripedAdd(Shared shared, Producer producer) {
+        shared.accumulator.add(producer.nextEvent());
+    }
+    
+    @Benchmark
+    public void lockedAdd(Shared shared, Producer producer) {
+        int value = producer.nextEvent();
+        synchronized (shared) {
+            shared.locked.add(value);
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void stripedBatch(Shared shared, Producer producer) {
+        int from = producer.nextBatch();
+        shared.accumulator.addAll(producer.events, from, from + BATCH);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void lockedBatch(Shared shared, Producer producer) {
+        int from = producer.nextBatch();
+        synchronized (shared) {
+            shared.locked.addAll(producer.events, from, from + BATCH);
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentIngestBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            
+            new Runner(options).run();
+            if (threads == cores) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import algorithms.DynamicMajorityIndex;
+import algorithms.MajoritySummary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// One operation = a batch of updates followed by a batch of queries, mixed
+// at the configured update:query ratio.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class DynamicMajorityBenchmark {
+    
+    @Param({"10000", "1000000"})
+    private int size;
+    
+    @Param({"1:100", "1:1", "100:1"})
+    private String updateQueryRatio;
+    
+    private int updates;
+    private int queries;
+    private int[] array;
+    private DynamicMajorityIndex index;
+    private Random random;
+    
+    @Setup(Level.Iteration)
+    public void setup() {
+        String[] parts = updateQueryRatio.split(":");
+        updates = Integer.parseInt(parts[0]);
+        queries = Integer.parseInt(parts[1]);
+        
+        random = new Random(42);
+        array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(10) < 6 ? 7 : random.nextInt(1000);
+        }
+        index = new DynamicMajorityIndex(array);
+    }
+    
+    @Benchmark
+    public void dynamicIndex(Blackhole bh) {
+        for (int u = 0; u < updates; u++) {
+            int i = random.nextInt(size);
+            int value = random.nextInt(10) < 6 ? 7 : random.nextInt(1000);
+            index.set(i, value);
+        }
+        for (int q = 0; q < queries; q++) {
+            bh.consume(index.majority());
+        }
+    }
+    
+    @Benchmark
+    public void fullRescan(Blackhole bh) {
+        for (int u = 0; u < updates; u++) {
+            int i = random.nextInt(size);
+            array[i] = random.nextInt(10) < 6 ? 7 : random.nextInt(1000);
+        }
+        for (int q = 0; q < queries; q++) {
+            MajoritySummary summary = MajoritySummary.of(array);
+            Integer candidate = summary.getCandidate();
+            bh.consume(candidate != null && summary.isMajority(MajoritySummary.countCandidate(array, candidate))
+                ? candidate : null);
+        }
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DynamicMajorityBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.GroupedMajority;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class GroupedMajorityBenchmark {
+    
+    @Param({"1000000"})
+    private int rows;
+    
+    @Param({"100", "10000", "500000"})
+    private int distinctKeys;
+    
+    private int[] keys;
+    private int[] values;
+    private GroupedMajority engine;
+    private BoyerMooreMajorityVote algorithm;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        keys = new int[rows];
+        values = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            keys[i] = random.nextInt(distinctKeys);
+            values[i] = random.nextBoolean() ? keys[i] & 15 : random.nextInt(16);
+        }
+        engine = new GroupedMajority();
+        algorithm = new BoyerMooreMajorityVote();
+    }
+    
+    @Benchmark
+    public Map<Integer, Integer> boxedGroupThenFind() {
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            groups.computeIfAbsent(keys[i], k -> new ArrayList<>()).add(values[i]);
+        }
+        Map<Integer, Integer> majorities = new HashMap<>();
+        for (Map.Entry<Integer, List<Integer>> group : groups.entrySet()) {
+            int[] column = group.getValue().stream().mapToInt(Integer::intValue).toArray();
+            majorities.put(group.getKey(), algorithm.findMajorityElement(column));
+        }
+        return majorities;
+    }
+    
+    @Benchmark
+    public GroupedMajority.Result primitiveGrouped() {
+        return engine.aggregate(keys, values);
+    }
+    
+    @Benchmark
+    public GroupedMajority.Result primitiveGroupedParallel() {
+        return engine.aggregateParallel(keys, values);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(GroupedMajorityBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
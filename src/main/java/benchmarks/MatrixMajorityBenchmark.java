@@ -0,0 +1,90 @@
+package benchmarks;
+
+import algorithms.MajorityKernels;
+import algorithms.MatrixMajority;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class MatrixMajorityBenchmark {
+    
+    // rows x cols, all 4M cells: tall, square-ish and wide
+    @Param({"262144x16", "4096x1024", "256x16384"})
+    private String shape;
+    
+    private int rows;
+    private int cols;
+    private int[] flat;
+    private int[][] matrix;
+    private MatrixMajority engine;
+    
+    @Setup
+    public void setup() {
+        String[] dims = shape.split("x");
+        rows = Integer.parseInt(dims[0]);
+        cols = Integer.parseInt(dims[1]);
+        Random random = new Random(42);
+        flat = new int[rows * cols];
+        matrix = new int[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int value = random.nextInt(10) < 6 ? c & 7 : random.nextInt(32);
+                flat[r * cols + c] = value;
+                matrix[r][c] = value;
+            }
+        }
+        engine = new MatrixMajority();
+    }
+    
+    @Benchmark
+    public Integer[] naiveColumnGather() {
+        Integer[] majorities = new Integer[cols];
+        int[] column = new int[rows];
+        for (int c = 0; c < cols; c++) {
+            for (int r = 0; r < rows; r++) {
+                column[r] = flat[r * cols + c];
+            }
+            majorities[c] = MajorityKernels.majority(column);
+        }
+        return majorities;
+    }
+    
+    @Benchmark
+    public MatrixMajority.Result lockstepColumns() {
+        return engine.columns(flat, rows, cols);
+    }
+    
+    @Benchmark
+    public MatrixMajority.Result lockstepColumns2d() {
+        return engine.columns(matrix);
+    }
+    
+    @Benchmark
+    public MatrixMajority.Result parallelColumnBlocks() {
+        return engine.columnsParallel(flat, rows, cols);
+    }
+    
+    @Benchmark
+    public MatrixMajority.Result rowMajorities() {
+        return engine.rows(flat, rows, cols);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MatrixMajorityBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,101 @@
+package benchmarks;
+
+import algorithms.MajorityKernels;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Working-set sweep from L1 to DRAM. The bytes/elements aux counters turn
+// JMH's ops/s into GB/s (bytes * 1e-9) and elements/ns (elements * 1e-9),
+// directly comparable with the plain int[] sum baseline.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class MemoryBandwidthBenchmark {
+    
+    // 16 KB (L1) .. 256 MB (DRAM)
+    @Param({"16", "128", "1024", "8192", "65536", "262144"})
+    private int workingSetKb;
+    
+    private int[] data;
+    private int candidate;
+    
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Traffic {
+        public long bytes;
+        public long elements;
+        
+        @Setup(Level.Iteration)
+        public void clear() {
+            bytes = 0;
+            elements = 0;
+        }
+        
+        void record(int length, int passes) {
+            elements += (long) length * passes;
+            bytes += (long) length * passes * Integer.BYTES;
+        }
+    }
+    
+    @Setup
+    public void setup() {
+        int length = workingSetKb * 1024 / Integer.BYTES;
+        Random random = new Random(42);
+        data = new int[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = random.nextInt(10) < 6 ? 7 : random.nextInt(1000);
+        }
+        candidate = MajorityKernels.candidate(data, 0, length);
+    }
+    
+    @Benchmark
+    public long sumBaseline(Traffic traffic) {
+        long sum = 0;
+        for (int value : data) {
+            sum += value;
+        }
+        traffic.record(data.length, 1);
+        return sum;
+    }
+    
+    @Benchmark
+    public int candidatePass(Traffic traffic) {
+        traffic.record(data.length, 1);
+        return MajorityKernels.candidate(data, 0, data.length);
+    }
+    
+    @Benchmark
+    public int verificationPass(Traffic traffic) {
+        traffic.record(data.length, 1);
+        return MajorityKernels.count(data, 0, data.length, candidate);
+    }
+    
+    @Benchmark
+    public long fusedCandidateAndCount(Traffic traffic) {
+        traffic.record(data.length, 1);
+        return MajorityKernels.candidateAndCount(data, 0, data.length, candidate);
+    }
+    
+    @Benchmark
+    public Integer twoPassMajority(Traffic traffic) {
+        traffic.record(data.length, 2);
+        return MajorityKernels.majority(data);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MemoryBandwidthBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
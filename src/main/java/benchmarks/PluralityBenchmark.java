@@ -0,0 +1,116 @@
+package benchmarks;
+
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.ModeFinder;
+import cli.BenchmarkRunner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class PluralityBenchmark {
+    
+    @Param({"100000"})
+    private int size;
+    
+    // The runner's distributions plus two majority-free ones that force the
+    // mode fallback (small and wide value range).
+    @Param({"random", "sorted", "reverse-sorted", "nearly-sorted", "majority-heavy",
+            "plurality-small-range", "plurality-wide-range"})
+    private String distribution;
+    
+    private int[] data;
+    private boolean countingArrayApplicable;
+    private BoyerMooreMajorityVote algorithm;
+    
+    @Setup
+    public void setup() {
+        algorithm = new BoyerMooreMajorityVote();
+        Random random = new Random(42);
+        if ("plurality-small-range".equals(distribution)) {
+            data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(10) < 3 ? 7 : random.nextInt(100);
+            }
+        } else if ("plurality-wide-range".equals(distribution)) {
+            data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextInt(10) < 3 ? 7 : random.nextInt();
+            }
+        } else {
+            data = new BenchmarkRunner().generateTestData(size, distribution);
+        }
+        int min = Arrays.stream(data).min().getAsInt();
+        int max = Arrays.stream(data).max().getAsInt();
+        countingArrayApplicable = (long) max - min < (1 << 22);
+    }
+    
+    @Benchmark
+    public Integer majorityThenBoxedHashMap() {
+        Integer majority = algorithm.findMajorityElement(data, "jmh-plurality-baseline");
+        if (majority != null) {
+            return majority;
+        }
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int value : data) {
+            counts.merge(value, 1, Integer::sum);
+        }
+        Integer best = null;
+        int bestCount = 0;
+        for (Map.Entry<Integer, Integer> e : counts.entrySet()) {
+            if (e.getValue() > bestCount || (e.getValue() == bestCount && e.getKey() < best)) {
+                best = e.getKey();
+                bestCount = e.getValue();
+            }
+        }
+        return best;
+    }
+    
+    @Benchmark
+    public ModeFinder.Result majorityOrMode() {
+        return algorithm.findMajorityOrMode(data);
+    }
+    
+    @Benchmark
+    public ModeFinder.Result modeCountingArrayOnly() {
+        return countingArrayApplicable ? ModeFinder.mode(data, ModeFinder.Strategy.COUNTING_ARRAY) : null;
+    }
+    
+    @Benchmark
+    public ModeFinder.Result modeHashTableOnly() {
+        return ModeFinder.mode(data, ModeFinder.Strategy.HASH_TABLE);
+    }
+    
+    @Benchmark
+    public ModeFinder.Result modeRadixSortOnly() {
+        return ModeFinder.mode(data, ModeFinder.Strategy.RADIX_SORT);
+    }
+    
+    @Benchmark
+    public int[] sortBaseline() {
+        int[] copy = data.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PluralityBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import algorithms.SpaceSavingHeavyHitters;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Throughput is reported per element: each invocation ingests STREAM values.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class SpaceSavingBenchmark {
+    
+    private static final int STREAM = 1 << 20;
+    private static final int CHUNK = 4096;
+    
+    @Param({"10", "100", "1000", "10000"})
+    private int k;
+    
+    @Param({"zipf", "uniform"})
+    private String distribution;
+    
+    private int[] stream;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        stream = new int[STREAM];
+        for (int i = 0; i < STREAM; i++) {
+            if ("zipf".equals(distribution)) {
+                // Inverse-CDF approximation of Zipf(s = 1) over 1..100000.
+                stream[i] = (int) Math.floor(Math.pow(100000, random.nextDouble()));
+            } else {
+                stream[i] = random.nextInt(100000);
+            }
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(STREAM)
+    public SpaceSavingHeavyHitters chunkedIngest() {
+        SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(k);
+        for (int from = 0; from < STREAM; from += CHUNK) {
+            summary.offer(stream, from, Math.min(STREAM, from + CHUNK));
+        }
+        return summary;
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SpaceSavingBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import algorithms.MajorityKernels;
+import algorithms.WeightedMajorityVote;
+import cli.BenchmarkRunner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Weighted vote (int values + long weights: three times the bytes per
+// element) vs the unweighted kernel over the same values.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class WeightedMajorityBenchmark {
+
+    @Param({"1000000", "4000000"})
+    private int size;
+
+    @Param({"random", "majority-heavy"})
+    private String distribution;
+
+    private int[] values;
+    private long[] weights;
+    private WeightedMajorityVote engine;
+
+    @Setup
+    public void setup() {
+        values = new BenchmarkRunner().generateTestData(size, distribution);
+        weights = new long[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 + random.nextInt(1000);
+        }
+        engine = new WeightedMajorityVote();
+    }
+
+    @Benchmark
+    public Integer unweighted() {
+        return MajorityKernels.majority(values);
+    }
+
+    @Benchmark
+    public Integer weighted() {
+        return engine.findMajorityElement(values, weights);
+    }
+
+    @Benchmark
+    public Integer weightedParallel() {
+        return engine.findMajorityElementParallel(values, weights);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(WeightedMajorityBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,368 @@
+package cli;
+
+import metrics.ComplexityAnalyzer;
+import metrics.PerformanceTracker;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs sizes x distributions x variants x JVM flag sets, every cell in its
+// own forked JVM (BenchmarkRunner --cell), so C2 profiles never leak from
+// one cell into the next. With parallelForks > 1 cells run concurrently,
+// each worker pinned to its own core through taskset when available; if the
+// process may use fewer cores than parallelForks, fewer workers run so that
+// no two forks ever share a core.
+//
+// Config (java.util.Properties; every key optional):
+//   sizes=1000,100000,1000000
+//   distributions=random,sorted,reverse-sorted,nearly-sorted,majority-heavy
+//   variants=boyer-moore,optimized,branchless,vectorized,parallel
+//   jvmFlags=default | -XX:-TieredCompilation | -XX:+UseParallelGC -Xmx2g
+//   repetitions=7
+//   parallelForks=1
+//   pinCores=true
+//   timeoutSeconds=600
+//   output=matrix_results.csv
+public class BenchmarkMatrix {
+    
+    private static final String DEFAULT_FLAGS = "default";
+    
+    private final List<Integer> sizes;
+    private final List<String> distributions;
+    private final List<String> variants;
+    private final List<String> jvmFlags;
+    private final int repetitions;
+    private final int parallelForks;
+    private final boolean pinCores;
+    private final long timeoutSeconds;
+    private final String output;
+    
+    public BenchmarkMatrix(Properties config) {
+        this.sizes = new ArrayList<>();
+        for (String size : list(config.getProperty("sizes", "1000,100000,1000000"), ",")) {
+            int parsed = Integer.parseInt(size);
+            if (parsed < BenchmarkRunner.MIN_DATA_SIZE) {
+                throw new IllegalArgumentException("Matrix sizes must be >= " + BenchmarkRunner.MIN_DATA_SIZE
+                    + ": " + parsed);
+            }
+            sizes.add(parsed);
+        }
+        this.distributions = list(config.getProperty("distributions",
+            String.join(",", BenchmarkRunner.getInputTypes())), ",");
+        this.variants = list(config.getProperty("variants", String.join(",", BenchmarkRunner.getVariants())), ",");
+        this.jvmFlags = list(config.getProperty("jvmFlags", DEFAULT_FLAGS), "\\|");
+        this.repetitions = Integer.parseInt(config.getProperty("repetitions", "7").trim());
+        this.parallelForks = Integer.parseInt(config.getProperty("parallelForks", "1").trim());
+        this.pinCores = Boolean.parseBoolean(config.getProperty("pinCores", "true").trim());
+        this.timeoutSeconds = Long.parseLong(config.getProperty("timeoutSeconds", "600").trim());
+        this.output = config.getProperty("output", "matrix_results.csv").trim();
+        if (sizes.isEmpty() || distributions.isEmpty() || variants.isEmpty() || jvmFlags.isEmpty()
+                || repetitions < 1 || parallelForks < 1 || timeoutSeconds < 1) {
+            throw new IllegalArgumentException("Matrix needs at least one value per axis, repetitions >= 1, "
+                + "parallelForks >= 1 and timeoutSeconds >= 1");
+        }
+        requireKnown("distribution", distributions, BenchmarkRunner.getInputTypes());
+        requireKnown("variant", variants, BenchmarkRunner.getVariants());
+    }
+    
+    // Rejected here rather than as a failed cell minutes into the run.
+    private static void requireKnown(String axis, List<String> values, String[] known) {
+        List<String> allowed = Arrays.asList(known);
+        for (String value : values) {
+            if (!allowed.contains(value)) {
+                throw new IllegalArgumentException("Unknown " + axis + " '" + value + "', expected one of " + allowed);
+            }
+        }
+    }
+    
+    public static void main(String[] args) {
+        Properties config = new Properties();
+        if (args.length == 1) {
+            try (Reader reader = new FileReader(args[0])) {
+                config.load(reader);
+            } catch (IOException e) {
+                System.err.println("Failed to read " + args[0] + ": " + e.getMessage());
+                System.exit(1);
+            }
+        } else if (args.length > 1) {
+            System.out.println("Usage: java cli.BenchmarkMatrix [matrix.properties]");
+            return;
+        }
+        
+        try {
+            new BenchmarkMatrix(config).run();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Benchmark matrix failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+    
+    public List<Cell> cells() {
+        List<Cell> cells = new ArrayList<>();
+        for (String flags : jvmFlags) {
+            for (int size : sizes) {
+                for (String distribution : distributions) {
+                    for (String variant : variants) {
+                        cells.add(new Cell(size, distribution, variant, flags));
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+    
+    public void run() throws IOException {
+        List<Cell> cells = cells();
+        Path scratch = Files.createTempDirectory("benchmark-matrix");
+        int workers = parallelForks;
+        int[] cores = null;
+        if (pinCores && parallelForks > 1) {
+            List<Integer> allowed = allowedCores();
+            if (allowed == null) {
+                System.err.println("Warning: taskset unavailable, forks run unpinned");
+            } else if (allowed.isEmpty()) {
+                System.err.println("Warning: taskset reported no usable cores, forks run unpinned");
+            } else {
+                cores = pickCores(allowed, parallelForks);
+                if (cores.length < parallelForks) {
+                    System.err.printf("Warning: only %d pinnable core(s) %s for parallelForks=%d; "
+                        + "running %d fork(s) at a time so none share a core\n",
+                        cores.length, allowed, parallelForks, cores.length);
+                    workers = cores.length;
+                }
+            }
+        }
+        
+        System.out.printf("Running %d cells in forked JVMs (%d at a time)\n", cells.size(), workers);
+        if (cores != null) {
+            StringBuilder map = new StringBuilder();
+            for (int worker = 0; worker < workers; worker++) {
+                map.append(worker == 0 ? "" : ", ").append("worker ").append(worker).append(" -> core ").append(cores[worker]);
+            }
+            System.out.println("  Pinned: " + map);
+        }
+        
+        // Each pool thread owns one core for its whole life, so the map above
+        // is exact and two concurrent forks never land on the same core.
+        ThreadLocal<Integer> workerCore = new ThreadLocal<>();
+        int[] pinned = cores;
+        AtomicInteger nextWorker = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            int worker = nextWorker.getAndIncrement();
+            int core = pinned == null ? -1 : pinned[worker];
+            Thread thread = new Thread(() -> {
+                workerCore.set(core);
+                task.run();
+            }, "matrix-worker-" + worker);
+            thread.setDaemon(true);
+            return thread;
+        };
+        ExecutorService pool = Executors.newFixedThreadPool(workers, factory);
+        List<Future<List<PerformanceTracker.PerformanceResult>>> futures = new ArrayList<>();
+        for (int i = 0; i < cells.size(); i++) {
+            Cell cell = cells.get(i);
+            Path csv = scratch.resolve("cell-" + i + ".csv");
+            futures.add(pool.submit(() -> runCell(cell, csv, workerCore.get())));
+        }
+        pool.shutdown();
+        
+        List<Cell> completed = new ArrayList<>();
+        List<List<PerformanceTracker.PerformanceResult>> results = new ArrayList<>();
+        for (int i = 0; i < cells.size(); i++) {
+            Cell cell = cells.get(i);
+            try {
+                List<PerformanceTracker.PerformanceResult> cellResults = futures.get(i).get();
+                completed.add(cell);
+                results.add(cellResults);
+                System.out.printf("  %-45s median %,12d ns\n", cell, medianTime(cellResults));
+            } catch (Exception e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                System.err.printf("  %-45s FAILED: %s\n", cell, cause.getMessage());
+            }
+        }
+        
+        writeAggregate(completed, results, output);
+        System.out.println("Matrix results exported to " + output);
+        for (File file : scratch.toFile().listFiles()) {
+            file.delete();
+        }
+        Files.delete(scratch);
+    }
+    
+    private List<PerformanceTracker.PerformanceResult> runCell(Cell cell, Path csv, int core)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        if (core >= 0) {
+            command.add("taskset");
+            command.add("-c");
+            command.add(Integer.toString(core));
+        }
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(cell.flagList());
+        if ("vectorized".equals(cell.variant) && Runtime.version().feature() >= 17) {
+            command.add("--add-modules=jdk.incubator.vector");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("cli.BenchmarkRunner");
+        command.add("--cell");
+        command.add(Integer.toString(cell.size));
+        command.add(cell.distribution);
+        command.add(cell.variant);
+        command.add(Integer.toString(repetitions));
+        command.add(csv.toString());
+        
+        Path log = csv.resolveSibling(csv.getFileName() + ".log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IOException("timed out after " + timeoutSeconds + " s");
+        }
+        if (process.exitValue() != 0) {
+            throw new IOException("exit code " + process.exitValue() + ": " + lastLine(log));
+        }
+        return ComplexityAnalyzer.readCsv(csv.toString());
+    }
+    
+    // Algorithm carries the flag set too, so --analyze keeps configurations apart.
+    static void writeAggregate(List<Cell> cells, List<List<PerformanceTracker.PerformanceResult>> results,
+                               String filename) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+            writer.write("Algorithm,Variant,JvmFlags,InputSize,InputType,ArrayAccesses,Comparisons,"
+                + "MemoryAllocations,ExecutionTimeNs,AllocatedBytes,GcCount,GcTimeMs\n");
+            for (int i = 0; i < cells.size(); i++) {
+                Cell cell = cells.get(i);
+                for (PerformanceTracker.PerformanceResult result : results.get(i)) {
+                    writer.write(String.format("%s,%s,%s,%d,%s,%d,%d,%d,%d,%d,%d,%d\n",
+                        cell.label(), cell.variant, cell.csvFlags(), result.inputSize, result.inputType,
+                        result.arrayAccesses, result.comparisons, result.memoryAllocations,
+                        result.executionTimeNs, result.allocatedBytes, result.gcCount, result.gcTimeMs));
+                }
+            }
+        }
+    }
+    
+    private static long medianTime(List<PerformanceTracker.PerformanceResult> results) {
+        long[] times = results.stream().mapToLong(r -> r.executionTimeNs).sorted().toArray();
+        return times.length == 0 ? 0 : times[times.length / 2];
+    }
+    
+    private static String lastLine(Path log) throws IOException {
+        List<String> lines = Files.readAllLines(log);
+        return lines.isEmpty() ? "(no output)" : lines.get(lines.size() - 1);
+    }
+    
+    // The cores this process may run on (taskset -cp honours cpusets and any
+    // affinity inherited from the caller), or null when taskset is unusable.
+    private static List<Integer> allowedCores() {
+        try {
+            Process probe = new ProcessBuilder("taskset", "-cp", Long.toString(ProcessHandle.current().pid()))
+                .redirectErrorStream(true).start();
+            String output = new String(probe.getInputStream().readAllBytes()).trim();
+            if (probe.waitFor() != 0 || output.indexOf(':') < 0) {
+                return null;
+            }
+            return parseCpuList(output.substring(output.lastIndexOf(':') + 1));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+    
+    // Parses a Linux CPU list such as "0-3,6,8-10".
+    static List<Integer> parseCpuList(String cpuList) {
+        List<Integer> cores = new ArrayList<>();
+        for (String range : list(cpuList, ",")) {
+            int dash = range.indexOf('-');
+            int first = Integer.parseInt(dash < 0 ? range : range.substring(0, dash).trim());
+            int last = dash < 0 ? first : Integer.parseInt(range.substring(dash + 1).trim());
+            if (first < 0 || last < first) {
+                throw new IllegalArgumentException("Bad CPU range: " + range);
+            }
+            for (int core = first; core <= last; core++) {
+                cores.add(core);
+            }
+        }
+        return cores;
+    }
+    
+    // One distinct core per worker, at most as many as are allowed (none for
+    // an empty list, and run() then leaves the forks unpinned). The lowest
+    // allowed core, where interrupts and this coordinator tend to run, is
+    // skipped while enough others remain.
+    static int[] pickCores(List<Integer> allowed, int forks) {
+        List<Integer> usable = new ArrayList<>(allowed);
+        Collections.sort(usable);
+        if (usable.size() > forks) {
+            usable.remove(0);
+        }
+        int[] cores = new int[Math.min(forks, usable.size())];
+        for (int i = 0; i < cores.length; i++) {
+            cores[i] = usable.get(i);
+        }
+        return cores;
+    }
+    
+    private static List<String> list(String value, String separator) {
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(separator)) {
+            if (!part.trim().isEmpty()) {
+                values.add(part.trim());
+            }
+        }
+        return values;
+    }
+    
+    public static final class Cell {
+        public final int size;
+        public final String distribution;
+        public final String variant;
+        public final String flags;
+        
+        Cell(int size, String distribution, String variant, String flags) {
+            this.size = size;
+            this.distribution = distribution;
+            this.variant = variant;
+            this.flags = flags;
+        }
+        
+        List<String> flagList() {
+            if (DEFAULT_FLAGS.equals(flags)) {
+                return Collections.emptyList();
+            }
+            return list(flags, "\\s+");
+        }
+        
+        String csvFlags() {
+            return flags.replace(',', ';');
+        }
+        
+        String label() {
+            return DEFAULT_FLAGS.equals(flags) ? variant : variant + " " + csvFlags();
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s/%d/%s [%s]", variant, size, distribution, flags);
+        }
+    }
+}
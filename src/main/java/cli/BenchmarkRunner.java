@@ -1,8 +1,11 @@
 package cli;
 
 import algorithms.BoyerMooreMajorityVote;
+import metrics.ComplexityAnalyzer;
 import metrics.PerformanceTracker;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.io.IOException;
 
@@ -10,6 +13,11 @@ public class BenchmarkRunner {
     
     private static final int[] DEFAULT_SIZES = {100, 1000, 10000, 100000};
     private static final String[] INPUT_TYPES = {"random", "sorted", "reverse-sorted", "nearly-sorted", "majority-heavy"};
+    private static final String[] VARIANTS = {"boyer-moore", "optimized", "branchless", "vectorized", "parallel"};
+    
+    // Smallest size every generator accepts (random data draws nextInt(size / 4)).
+    static final int MIN_DATA_SIZE = 4;
+    private static final int SWEEP_REPETITIONS = 7;
     
     public static void main(String[] args) {
         
@@ -17,6 +25,29 @@ public class BenchmarkRunner {
         
         if (args.length == 0) {
             runner.runComprehensiveBenchmark();
+        } else if ("--sweep".equals(args[0])) {
+            try {
+                int minSize = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+                int maxSize = args.length > 2 ? Integer.parseInt(args[2]) : 4_096_000;
+                double factor = args.length > 3 ? Double.parseDouble(args[3]) : 2.0;
+                runner.runScalingAnalysis(minSize, maxSize, factor);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid sweep arguments: " + e.getMessage());
+                printUsage();
+            }
+        } else if ("--cell".equals(args[0]) && args.length == 6) {
+            try {
+                runner.runCell(Integer.parseInt(args[1]), args[2], args[3], Integer.parseInt(args[4]), args[5]);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid cell arguments: " + e.getMessage());
+                printUsage();
+                System.exit(2);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Cell failed: " + e.getMessage());
+                System.exit(1);
+            }
+        } else if ("--analyze".equals(args[0]) && args.length == 2) {
+            runner.analyzeExistingResults(args[1]);
         } else if (args.length == 1) {
             try {
                 int size = Integer.parseInt(args[0]);
@@ -74,6 +105,140 @@ public class BenchmarkRunner {
         }
     }
     
+    public void runScalingAnalysis(int minSize, int maxSize, double factor) {
+        List<PerformanceTracker.PerformanceResult> sweep = runGeometricSweep(minSize, maxSize, factor);
+        
+        try {
+            PerformanceTracker.exportToCSV("scaling_results.csv", sweep);
+            System.out.println("Sweep results exported to scaling_results.csv");
+        } catch (IOException e) {
+            System.err.println("Failed to export results: " + e.getMessage());
+        }
+        
+        reportScaling(new ComplexityAnalyzer().analyze(sweep));
+    }
+    
+    public void analyzeExistingResults(String csvFile) {
+        try {
+            reportScaling(new ComplexityAnalyzer().analyze(ComplexityAnalyzer.readCsv(csvFile)));
+        } catch (IOException e) {
+            System.err.println("Failed to read " + csvFile + ": " + e.getMessage());
+        }
+    }
+    
+    public List<PerformanceTracker.PerformanceResult> runGeometricSweep(int minSize, int maxSize, double factor) {
+        if (minSize < MIN_DATA_SIZE || maxSize < minSize || factor <= 1.0) {
+            throw new IllegalArgumentException("Sweep needs " + MIN_DATA_SIZE + " <= min <= max and factor > 1");
+        }
+        
+        BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+        List<PerformanceTracker.PerformanceResult> sweep = new ArrayList<>();
+        
+        for (long size = minSize; size <= maxSize; size = Math.max(size + 1, Math.round(size * factor))) {
+            System.out.printf("Sweeping input size: %,d\n", size);
+            
+            for (String inputType : INPUT_TYPES) {
+                int[] testData = generateTestData((int) size, inputType);
+                
+                // Small sizes get more warm-up calls so they are measured compiled, not interpreted.
+                long warmups = Math.max(5, Math.min(1000, 4_000_000 / size));
+                for (int i = 0; i < warmups; i++) {
+                    algorithm.findMajorityElement(testData, inputType);
+                }
+                // Dropped as in runCell, so getResults() copies one entry per
+                // repetition instead of every warm-up stored so far.
+                PerformanceTracker.clearResults();
+                for (int i = 0; i < SWEEP_REPETITIONS; i++) {
+                    algorithm.findMajorityElement(testData, inputType);
+                    List<PerformanceTracker.PerformanceResult> all = PerformanceTracker.getResults();
+                    sweep.add(all.get(all.size() - 1));
+                    PerformanceTracker.clearResults();
+                }
+            }
+        }
+        
+        return sweep;
+    }
+    
+    // One matrix cell, meant to run alone in a fresh JVM (see BenchmarkMatrix)
+    // so no other size, distribution or variant has shaped the JIT profile.
+    public void runCell(int size, String distribution, String variant, int repetitions, String output)
+            throws IOException {
+        if (size < MIN_DATA_SIZE || repetitions < 1) {
+            throw new IllegalArgumentException("Cell needs size >= " + MIN_DATA_SIZE + " and repetitions >= 1");
+        }
+        BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+        int[] testData = generateTestData(size, distribution);
+        
+        long warmups = Math.max(5, Math.min(1000, 4_000_000L / size));
+        for (int i = 0; i < warmups; i++) {
+            runVariant(algorithm, variant, testData, distribution);
+        }
+        
+        List<PerformanceTracker.PerformanceResult> cell = new ArrayList<>();
+        for (int i = 0; i < repetitions; i++) {
+            runVariant(algorithm, variant, testData, distribution);
+            List<PerformanceTracker.PerformanceResult> all = PerformanceTracker.getResults();
+            PerformanceTracker.PerformanceResult last = all.get(all.size() - 1);
+            cell.add(new PerformanceTracker.PerformanceResult(variant, size, distribution,
+                last.arrayAccesses, last.comparisons, last.memoryAllocations, last.executionTimeNs,
+                last.allocatedBytes, last.gcCount, last.gcTimeMs));
+            PerformanceTracker.clearResults();
+        }
+        PerformanceTracker.exportToCSV(output, cell);
+    }
+    
+    private static Integer runVariant(BoyerMooreMajorityVote algorithm, String variant, int[] data, String inputType) {
+        switch (variant) {
+            case "boyer-moore":
+                return algorithm.findMajorityElement(data, inputType);
+            case "optimized":
+                return algorithm.findMajorityElementOptimized(data);
+            case "branchless":
+                return algorithm.findMajorityElementBranchless(data);
+            case "vectorized":
+                return algorithm.findMajorityElementVectorized(data);
+            case "parallel":
+                return algorithm.findMajorityElementParallel(data);
+            default:
+                throw new IllegalArgumentException("Unknown variant: " + variant);
+        }
+    }
+    
+    public static String[] getVariants() {
+        return VARIANTS.clone();
+    }
+    
+    private void reportScaling(List<ComplexityAnalyzer.SeriesReport> reports) {
+        System.out.println();
+        System.out.println("Empirical scaling:");
+        for (ComplexityAnalyzer.SeriesReport report : reports) {
+            ComplexityAnalyzer.Fit timeFit = report.getTimeFit();
+            System.out.printf("  %-15s: time ~ %-8s (slope %.2f) | accesses ~ %-8s%s%s\n",
+                report.inputType,
+                timeFit == null ? "?" : timeFit.model.getLabel(),
+                report.getTimeSlope(),
+                report.getAccessFit() == null ? "?" : report.getAccessFit().model.getLabel(),
+                report.isNonlinear() ? " | NONLINEAR" : "",
+                report.getCliffs().isEmpty() ? "" : " | cliffs at " + cliffSizes(report));
+        }
+        
+        try {
+            ComplexityAnalyzer.writeJson(reports, "scaling_report.json");
+            System.out.println("Scaling report written to scaling_report.json");
+        } catch (IOException e) {
+            System.err.println("Failed to write report: " + e.getMessage());
+        }
+    }
+    
+    private static String cliffSizes(ComplexityAnalyzer.SeriesReport report) {
+        StringBuilder sizes = new StringBuilder();
+        for (ComplexityAnalyzer.Cliff cliff : report.getCliffs()) {
+            sizes.append(sizes.length() == 0 ? "" : ", ").append(String.format("%,d", cliff.toSize));
+        }
+        return sizes.toString();
+    }
+    
     private void runBenchmarkForType(BoyerMooreMajorityVote algorithm, int size, String inputType) {
         int[] testData = generateTestData(size, inputType);
         
@@ -84,11 +249,12 @@ public class BenchmarkRunner {
         Integer result = algorithm.findMajorityElement(testData, inputType);
         
         var tracker = algorithm.getPerformanceTracker();
-        System.out.printf("  %-15s: %8.3f ms | %,8d accesses | %,6d comparisons | Result: %s\n",
+        System.out.printf("  %-15s: %8.3f ms | %,8d accesses | %,6d comparisons | %,d B allocated | Result: %s\n",
             inputType,
             tracker.getExecutionTimeMs(),
             tracker.getArrayAccesses(),
             tracker.getComparisons(),
+            tracker.getAllocatedBytes(),
             result == null ? "None" : result.toString()
         );
         
@@ -99,7 +265,11 @@ public class BenchmarkRunner {
         }
     }
     
-    private int[] generateTestData(int size, String inputType) {
+    public static String[] getInputTypes() {
+        return INPUT_TYPES.clone();
+    }
+    
+    public int[] generateTestData(int size, String inputType) {
         Random random = new Random(42); 
         
         switch (inputType) {
@@ -229,6 +399,12 @@ public class BenchmarkRunner {
         System.out.println("Usage:");
         System.out.println("  java cli.BenchmarkRunner           - Run comprehensive benchmark");
         System.out.println("  java cli.BenchmarkRunner <size>    - Run benchmark for specific size");
+        System.out.println("  java cli.BenchmarkRunner --sweep [min max factor]");
+        System.out.println("                                     - Geometric size sweep with scaling analysis");
+        System.out.println("  java cli.BenchmarkRunner --analyze <results.csv>");
+        System.out.println("                                     - Fit complexity models to exported results");
+        System.out.println("  java cli.BenchmarkRunner --cell <size> <distribution> <variant> <repetitions> <out.csv>");
+        System.out.println("                                     - One benchmark matrix cell (run by cli.BenchmarkMatrix)");
         System.out.println();
         System.out.println("Examples:");
         System.out.println("  java cli.BenchmarkRunner");
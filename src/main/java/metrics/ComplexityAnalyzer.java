@@ -0,0 +1,341 @@
+package metrics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Fits measured time and array-access counts against candidate growth
+// models, so the complexity claims are backed by the benchmark data itself.
+public class ComplexityAnalyzer {
+
+    public enum Model {
+        LINEAR("n"),
+        LINEARITHMIC("n log n"),
+        QUADRATIC("n^2");
+
+        private final String label;
+
+        Model(String label) {
+            this.label = label;
+        }
+
+        double apply(double n) {
+            switch (this) {
+                case LINEAR:
+                    return n;
+                case LINEARITHMIC:
+                    return n * Math.log(Math.max(2, n));
+                default:
+                    return n * n;
+            }
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private double nonlinearSlopeThreshold = 1.15;
+    private double cliffRatioThreshold = 1.3;
+
+    public ComplexityAnalyzer withNonlinearSlopeThreshold(double threshold) {
+        this.nonlinearSlopeThreshold = threshold;
+        return this;
+    }
+
+    public ComplexityAnalyzer withCliffRatioThreshold(double threshold) {
+        this.cliffRatioThreshold = threshold;
+        return this;
+    }
+
+    public List<SeriesReport> analyze(List<PerformanceTracker.PerformanceResult> results) {
+        Map<String, TreeMap<Long, List<PerformanceTracker.PerformanceResult>>> groups = new LinkedHashMap<>();
+        for (PerformanceTracker.PerformanceResult result : results) {
+            String key = result.algorithmName + "\u0000" + result.inputType;
+            groups.computeIfAbsent(key, k -> new TreeMap<>())
+                .computeIfAbsent(result.inputSize, k -> new ArrayList<>())
+                .add(result);
+        }
+
+        List<SeriesReport> reports = new ArrayList<>();
+        for (Map.Entry<String, TreeMap<Long, List<PerformanceTracker.PerformanceResult>>> group : groups.entrySet()) {
+            String[] names = group.getKey().split("\u0000", 2);
+            TreeMap<Long, List<PerformanceTracker.PerformanceResult>> bySize = group.getValue();
+
+            int points = bySize.size();
+            double[] sizes = new double[points];
+            double[] times = new double[points];
+            double[] accesses = new double[points];
+            int i = 0;
+            for (Map.Entry<Long, List<PerformanceTracker.PerformanceResult>> entry : bySize.entrySet()) {
+                sizes[i] = entry.getKey();
+                // Medians keep warm-up runs and stray GC pauses from skewing a point.
+                times[i] = median(entry.getValue(), true);
+                accesses[i] = median(entry.getValue(), false);
+                i++;
+            }
+            reports.add(analyzeSeries(names[0], names[1], sizes, times, accesses));
+        }
+        return reports;
+    }
+
+    SeriesReport analyzeSeries(String algorithm, String inputType, double[] sizes, double[] times, double[] accesses) {
+        SeriesReport report = new SeriesReport(algorithm, inputType, sizes, times);
+        if (sizes.length < 2) {
+            return report;
+        }
+
+        report.timeFit = bestFit(sizes, times);
+        report.accessFit = bestFit(sizes, accesses);
+        report.timeSlope = logLogSlope(sizes, times);
+        report.accessSlope = logLogSlope(sizes, accesses);
+        // n and n log n are hard to tell apart over a few octaves, so the flag
+        // relies on the log-log slope rather than on which model fit best.
+        report.nonlinear = report.timeSlope > nonlinearSlopeThreshold;
+
+        for (int i = 1; i < sizes.length; i++) {
+            double before = times[i - 1] / sizes[i - 1];
+            double after = times[i] / sizes[i];
+            if (before > 0 && after / before > cliffRatioThreshold) {
+                report.cliffs.add(new Cliff((long) sizes[i - 1], (long) sizes[i], before, after));
+            }
+        }
+        return report;
+    }
+
+    // Relative least squares through the origin: minimises sum(((y - a f(n)) / y)^2).
+    static Fit bestFit(double[] sizes, double[] values) {
+        Fit best = null;
+        for (Model model : Model.values()) {
+            double numerator = 0;
+            double denominator = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                if (values[i] <= 0) {
+                    continue;
+                }
+                double f = model.apply(sizes[i]);
+                numerator += f / values[i];
+                denominator += (f * f) / (values[i] * values[i]);
+            }
+            if (denominator == 0) {
+                continue;
+            }
+            double coefficient = numerator / denominator;
+            double squared = 0;
+            int used = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                if (values[i] <= 0) {
+                    continue;
+                }
+                double relative = (values[i] - coefficient * model.apply(sizes[i])) / values[i];
+                squared += relative * relative;
+                used++;
+            }
+            Fit fit = new Fit(model, coefficient, Math.sqrt(squared / used));
+            if (best == null || fit.relativeError < best.relativeError) {
+                best = fit;
+            }
+        }
+        return best;
+    }
+
+    static double logLogSlope(double[] sizes, double[] values) {
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        int used = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            if (values[i] <= 0) {
+                continue;
+            }
+            double x = Math.log(sizes[i]);
+            double y = Math.log(values[i]);
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+            used++;
+        }
+        double denominator = used * sumXX - sumX * sumX;
+        return used < 2 || denominator == 0 ? Double.NaN : (used * sumXY - sumX * sumY) / denominator;
+    }
+
+    private static double median(List<PerformanceTracker.PerformanceResult> results, boolean time) {
+        double[] values = new double[results.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = time ? results.get(i).executionTimeNs : results.get(i).arrayAccesses;
+        }
+        Arrays.sort(values);
+        int mid = values.length / 2;
+        return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
+    }
+
+    public static List<PerformanceTracker.PerformanceResult> readCsv(String filename) throws IOException {
+        List<PerformanceTracker.PerformanceResult> results = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return results;
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            String[] names = header.trim().split(",");
+            for (int i = 0; i < names.length; i++) {
+                columns.put(names[i], i);
+            }
+            for (String required : new String[] {"Algorithm", "InputSize", "InputType", "ArrayAccesses", "ExecutionTimeNs"}) {
+                if (!columns.containsKey(required)) {
+                    throw new IOException("Missing column " + required + " in " + filename);
+                }
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                String[] cells = line.split(",");
+                results.add(new PerformanceTracker.PerformanceResult(
+                    cells[columns.get("Algorithm")],
+                    Long.parseLong(cells[columns.get("InputSize")]),
+                    cells[columns.get("InputType")],
+                    Long.parseLong(cells[columns.get("ArrayAccesses")]),
+                    longColumn(cells, columns, "Comparisons"),
+                    longColumn(cells, columns, "MemoryAllocations"),
+                    Long.parseLong(cells[columns.get("ExecutionTimeNs")]),
+                    longColumn(cells, columns, "AllocatedBytes"),
+                    longColumn(cells, columns, "GcCount"),
+                    longColumn(cells, columns, "GcTimeMs")
+                ));
+            }
+        }
+        return results;
+    }
+
+    private static long longColumn(String[] cells, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= cells.length ? 0 : Long.parseLong(cells[index]);
+    }
+
+    public static String toJson(List<SeriesReport> reports) {
+        StringBuilder json = new StringBuilder("{\n  \"series\": [");
+        for (int r = 0; r < reports.size(); r++) {
+            json.append(r == 0 ? "\n" : ",\n");
+            reports.get(r).appendJson(json);
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    public static void writeJson(List<SeriesReport> reports, String filename) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+            writer.write(toJson(reports));
+        }
+    }
+
+    public static final class Fit {
+        public final Model model;
+        public final double coefficient;
+        public final double relativeError;
+
+        Fit(Model model, double coefficient, double relativeError) {
+            this.model = model;
+            this.coefficient = coefficient;
+            this.relativeError = relativeError;
+        }
+    }
+
+    public static final class Cliff {
+        public final long fromSize;
+        public final long toSize;
+        public final double nsPerElementBefore;
+        public final double nsPerElementAfter;
+
+        Cliff(long fromSize, long toSize, double nsPerElementBefore, double nsPerElementAfter) {
+            this.fromSize = fromSize;
+            this.toSize = toSize;
+            this.nsPerElementBefore = nsPerElementBefore;
+            this.nsPerElementAfter = nsPerElementAfter;
+        }
+    }
+
+    public static final class SeriesReport {
+        public final String algorithm;
+        public final String inputType;
+        private final double[] sizes;
+        private final double[] times;
+        private Fit timeFit;
+        private Fit accessFit;
+        private double timeSlope = Double.NaN;
+        private double accessSlope = Double.NaN;
+        private boolean nonlinear;
+        private final List<Cliff> cliffs = new ArrayList<>();
+
+        SeriesReport(String algorithm, String inputType, double[] sizes, double[] times) {
+            this.algorithm = algorithm;
+            this.inputType = inputType;
+            this.sizes = sizes;
+            this.times = times;
+        }
+
+        public Fit getTimeFit() { return timeFit; }
+        public Fit getAccessFit() { return accessFit; }
+        public double getTimeSlope() { return timeSlope; }
+        public double getAccessSlope() { return accessSlope; }
+        public boolean isNonlinear() { return nonlinear; }
+        public List<Cliff> getCliffs() { return new ArrayList<>(cliffs); }
+
+        void appendJson(StringBuilder json) {
+            json.append("    {\n");
+            json.append("      \"algorithm\": \"").append(escape(algorithm)).append("\",\n");
+            json.append("      \"inputType\": \"").append(escape(inputType)).append("\",\n");
+            json.append("      \"points\": [");
+            for (int i = 0; i < sizes.length; i++) {
+                json.append(i == 0 ? "" : ", ").append(String.format(Locale.ROOT,
+                    "{\"size\": %d, \"timeNs\": %.0f, \"nsPerElement\": %.4f}",
+                    (long) sizes[i], times[i], times[i] / sizes[i]));
+            }
+            json.append("],\n");
+            appendFit(json, "timeFit", timeFit);
+            appendFit(json, "accessFit", accessFit);
+            json.append(String.format(Locale.ROOT, "      \"timeLogLogSlope\": %s,\n", number(timeSlope)));
+            json.append(String.format(Locale.ROOT, "      \"accessLogLogSlope\": %s,\n", number(accessSlope)));
+            json.append("      \"nonlinear\": ").append(nonlinear).append(",\n");
+            json.append("      \"cliffs\": [");
+            for (int i = 0; i < cliffs.size(); i++) {
+                Cliff cliff = cliffs.get(i);
+                json.append(i == 0 ? "" : ", ").append(String.format(Locale.ROOT,
+                    "{\"fromSize\": %d, \"toSize\": %d, \"nsPerElementBefore\": %.4f, \"nsPerElementAfter\": %.4f}",
+                    cliff.fromSize, cliff.toSize, cliff.nsPerElementBefore, cliff.nsPerElementAfter));
+            }
+            json.append("]\n    }");
+        }
+
+        private static void appendFit(StringBuilder json, String name, Fit fit) {
+            json.append("      \"").append(name).append("\": ");
+            if (fit == null) {
+                json.append("null,\n");
+                return;
+            }
+            json.append(String.format(Locale.ROOT, "{\"model\": \"%s\", \"coefficient\": %s, \"relativeError\": %s},\n",
+                fit.model.getLabel(), number(fit.coefficient), number(fit.relativeError)));
+        }
+
+        private static String number(double value) {
+            return Double.isNaN(value) || Double.isInfinite(value) ? "null" : String.format(Locale.ROOT, "%.6g", value);
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"");
+        }
+    }
+}
@@ -3,6 +3,8 @@ package metrics;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,11 +15,61 @@ public class PerformanceTracker {
     private long startTime;
     private long endTime;
     private String algorithmName;
-    private int inputSize;
+    private long inputSize;
     private String inputType;
+    private long startAllocatedBytes;
+    private long allocatedBytes;
+    private long startGcCount;
+    private long gcCount;
+    private long startGcTimeMs;
+    private long gcTimeMs;
     
     private static List<PerformanceResult> results = new ArrayList<>();
     
+    // Allocation is measured per thread: work handed to other threads (the
+    // parallel paths) is not included in allocatedBytes.
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = initAllocationBean();
+    private static final List<GarbageCollectorMXBean> GC_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+    
+    private static com.sun.management.ThreadMXBean initAllocationBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return allocationBean;
+    }
+    
+    public static boolean isAllocationTrackingSupported() {
+        return ALLOCATION_BEAN != null;
+    }
+    
+    private static long currentThreadAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? 0 : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : GC_BEANS) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+    
+    private static long totalGcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : GC_BEANS) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+    
     public PerformanceTracker(String algorithmName) {
         this.algorithmName = algorithmName;
         reset();
@@ -29,14 +81,23 @@ public class PerformanceTracker {
         memoryAllocations = 0;
         startTime = 0;
         endTime = 0;
+        allocatedBytes = 0;
+        gcCount = 0;
+        gcTimeMs = 0;
     }
     
     public void startTiming() {
+        startGcCount = totalGcCount();
+        startGcTimeMs = totalGcTimeMs();
+        startAllocatedBytes = currentThreadAllocatedBytes();
         startTime = System.nanoTime();
     }
     
     public void endTiming() {
         endTime = System.nanoTime();
+        allocatedBytes = currentThreadAllocatedBytes() - startAllocatedBytes;
+        gcCount = totalGcCount() - startGcCount;
+        gcTimeMs = totalGcTimeMs() - startGcTimeMs;
     }
     
     public void incrementArrayAccess() {
@@ -51,7 +112,19 @@ public class PerformanceTracker {
         memoryAllocations++;
     }
     
-    public void setInputCharacteristics(int size, String type) {
+    public void addArrayAccesses(long count) {
+        arrayAccesses += count;
+    }
+    
+    public void addComparisons(long count) {
+        comparisons += count;
+    }
+    
+    public void addMemoryAllocations(long count) {
+        memoryAllocations += count;
+    }
+    
+    public void setInputCharacteristics(long size, String type) {
         this.inputSize = size;
         this.inputType = type;
     }
@@ -72,7 +145,10 @@ public class PerformanceTracker {
             arrayAccesses,
             comparisons,
             memoryAllocations,
-            getExecutionTimeNs()
+            getExecutionTimeNs(),
+            allocatedBytes,
+            gcCount,
+            gcTimeMs
         ));
     }
     
@@ -84,27 +160,37 @@ public class PerformanceTracker {
             "Comparisons: %d\n" +
             "Memory Allocations: %d\n" +
             "Execution Time: %.3f ms\n" +
+            "Allocated Bytes: %d\n" +
+            "GC Collections: %d (%d ms)\n" +
             "Time Complexity: O(n)\n" +
             "Space Complexity: O(1)",
             algorithmName, inputSize, inputType,
             arrayAccesses, comparisons, memoryAllocations,
-            getExecutionTimeMs()
+            getExecutionTimeMs(), allocatedBytes, gcCount, gcTimeMs
         );
     }
     
     public static void exportToCSV(String filename) throws IOException {
+        exportToCSV(filename, results);
+    }
+    
+    public static void exportToCSV(String filename, List<PerformanceResult> results) throws IOException {
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-            writer.write("Algorithm,InputSize,InputType,ArrayAccesses,Comparisons,MemoryAllocations,ExecutionTimeNs\n");
+            writer.write("Algorithm,InputSize,InputType,ArrayAccesses,Comparisons,MemoryAllocations,ExecutionTimeNs," +
+                "AllocatedBytes,GcCount,GcTimeMs\n");
             
             for (PerformanceResult result : results) {
-                writer.write(String.format("%s,%d,%s,%d,%d,%d,%d\n",
+                writer.write(String.format("%s,%d,%s,%d,%d,%d,%d,%d,%d,%d\n",
                     result.algorithmName,
                     result.inputSize,
                     result.inputType,
                     result.arrayAccesses,
                     result.comparisons,
                     result.memoryAllocations,
-                    result.executionTimeNs
+                    result.executionTimeNs,
+                    result.allocatedBytes,
+                    result.gcCount,
+                    result.gcTimeMs
                 ));
             }
         }
@@ -121,21 +207,34 @@ public class PerformanceTracker {
     public long getArrayAccesses() { return arrayAccesses; }
     public long getComparisons() { return comparisons; }
     public long getMemoryAllocations() { return memoryAllocations; }
-    public int getInputSize() { return inputSize; }
+    public long getAllocatedBytes() { return allocatedBytes; }
+    public long getGcCount() { return gcCount; }
+    public long getGcTimeMs() { return gcTimeMs; }
+    public long getInputSize() { return inputSize; }
     public String getInputType() { return inputType; }
     
     public static class PerformanceResult {
         public final String algorithmName;
-        public final int inputSize;
+        public final long inputSize;
         public final String inputType;
         public final long arrayAccesses;
         public final long comparisons;
         public final long memoryAllocations;
         public final long executionTimeNs;
+        public final long allocatedBytes;
+        public final long gcCount;
+        public final long gcTimeMs;
         
-        public PerformanceResult(String algorithmName, int inputSize, String inputType,
+        public PerformanceResult(String algorithmName, long inputSize, String inputType,
                                long arrayAccesses, long comparisons, long memoryAllocations,
                                long executionTimeNs) {
+            this(algorithmName, inputSize, inputType, arrayAccesses, comparisons, memoryAllocations,
+                executionTimeNs, 0, 0, 0);
+        }
+        
+        public PerformanceResult(String algorithmName, long inputSize, String inputType,
+                               long arrayAccesses, long comparisons, long memoryAllocations,
+                               long executionTimeNs, long allocatedBytes, long gcCount, long gcTimeMs) {
             this.algorithmName = algorithmName;
             this.inputSize = inputSize;
             this.inputType = inputType;
@@ -143,14 +242,18 @@ public class PerformanceTracker {
             this.comparisons = comparisons;
             this.memoryAllocations = memoryAllocations;
             this.executionTimeNs = executionTimeNs;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcTimeMs = gcTimeMs;
         }
         
         @Override
         public String toString() {
             return String.format("PerformanceResult{algorithm='%s', size=%d, type='%s', " +
-                               "accesses=%d, comparisons=%d, allocations=%d, timeNs=%d}",
+                               "accesses=%d, comparisons=%d, allocations=%d, timeNs=%d, " +
+                               "allocatedBytes=%d, gcCount=%d, gcTimeMs=%d}",
                 algorithmName, inputSize, inputType, arrayAccesses, comparisons, 
-                memoryAllocations, executionTimeNs);
+                memoryAllocations, executionTimeNs, allocatedBytes, gcCount, gcTimeMs);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+public class MemorySegmentMajorityVote {
+    
+    private PerformanceTracker tracker;
+    
+    public MemorySegmentMajorityVote() {
+        this.tracker = new PerformanceTracker("Boyer-Moore Majority Vote");
+    }
+    
+    public Integer findMajorityElement(MemorySegment segment) {
+        return findMajorityElement(segment, ByteOrder.nativeOrder());
+    }
+    
+    public Integer findMajorityElement(MemorySegment segment, ByteOrder order) {
+        if (segment == null || segment.byteSize() == 0) {
+            return null;
+        }
+        if (segment.byteSize() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Segment length is not a multiple of 4 bytes: " + segment.byteSize());
+        }
+        
+        ValueLayout.OfInt layout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(order);
+        long length = segment.byteSize() / Integer.BYTES;
+        
+        tracker.reset();
+        tracker.setInputCharacteristics(length, (segment.isNative() ? "segment-native-" : "segment-heap-") + order);
+        tracker.startTiming();
+        
+        int candidate = findCandidate(segment, layout, length);
+        
+        if (isMajority(segment, layout, length, candidate)) {
+            tracker.endTiming();
+            tracker.storeResult();
+            return candidate;
+        }
+        
+        tracker.endTiming();
+        tracker.storeResult();
+        return null;
+    }
+    
+    private int findCandidate(MemorySegment segment, ValueLayout.OfInt layout, long length) {
+        int candidate = 0;
+        long count = 0;
+        
+        for (long i = 0; i < length; i++) {
+            tracker.incrementArrayAccess();
+            int value = segment.getAtIndex(layout, i);
+            
+            if (count == 0) {
+                candidate = value;
+                tracker.incrementMemoryAllocation();
+                count = 1;
+            } else {
+                tracker.incrementComparison();
+                if (value == candidate) {
+                    count++;
+                } else {
+                    count--;
+                }
+            }
+        }
+        
+        return candidate;
+    }
+    
+    private boolean isMajority(MemorySegment segment, ValueLayout.OfInt layout, long length, int candidate) {
+        long count = 0;
+        long majority = length / 2;
+        
+        for (long i = 0; i < length; i++) {
+            tracker.incrementArrayAccess();
+            tracker.incrementComparison();
+            
+            if (segment.getAtIndex(layout, i) == candidate) {
+                count++;
+                if (count > majority) {
+                    return true;
+                }
+            }
+        }
+        
+        return count > majority;
+    }
+    
+    public PerformanceTracker getPerformanceTracker() {
+        return tracker;
+    }
+}
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.MemorySegmentMajorityVote;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class MemorySegmentBenchmark {
+    
+    @Param({"10000", "1000000"})
+    private int size;
+    
+    private BoyerMooreMajorityVote heapAlgorithm;
+    private MemorySegmentMajorityVote segmentAlgorithm;
+    private int[] heapArray;
+    private Arena arena;
+    private MemorySegment nativeSegment;
+    private MemorySegment bigEndianSegment;
+    private MemorySegment heapSegment;
+    
+    @Setup
+    public void setup() {
+        heapAlgorithm = new BoyerMooreMajorityVote();
+        segmentAlgorithm = new MemorySegmentMajorityVote();
+        heapArray = BufferMajorityBenchmark.generateMajorityArray(size, new Random(42));
+        
+        arena = Arena.ofShared();
+        nativeSegment = arena.allocate((long) size * Integer.BYTES, Integer.BYTES);
+        bigEndianSegment = arena.allocate((long) size * Integer.BYTES, Integer.BYTES);
+        ValueLayout.OfInt bigEndian = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+        for (int i = 0; i < size; i++) {
+            nativeSegment.setAtIndex(ValueLayout.JAVA_INT_UNALIGNED, i, heapArray[i]);
+            bigEndianSegment.setAtIndex(bigEndian, i, heapArray[i]);
+        }
+        heapSegment = MemorySegment.ofArray(heapArray);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+    
+    @Benchmark
+    public Integer heapArray() {
+        return heapAlgorithm.findMajorityElement(heapArray, "jmh-heap");
+    }
+    
+    @Benchmark
+    public Integer heapSegment() {
+        return segmentAlgorithm.findMajorityElement(heapSegment);
+    }
+    
+    @Benchmark
+    public Integer nativeSegment() {
+        return segmentAlgorithm.findMajorityElement(nativeSegment);
+    }
+    
+    @Benchmark
+    public Integer nativeSegmentBigEndian() {
+        return segmentAlgorithm.findMajorityElement(bigEndianSegment, ByteOrder.BIG_ENDIAN);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MemorySegmentBenchmark.class.getSimpleName())
+                .build();
+        
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,155 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class AdaptiveMajoritySelectorTest {
+    
+    private final BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+    
+    @Test
+    @DisplayName("Every strategy agrees with the naive algorithm")
+    void testAgreementAcrossStrategies() {
+        Random random = new Random(7);
+        AdaptiveMajoritySelector selector = new AdaptiveMajoritySelector();
+        for (int trial = 0; trial < 200; trial++) {
+            int size = 1 + random.nextInt(2000);
+            int range = trial % 3 == 0 ? 3 : trial % 3 == 1 ? 100 : Integer.MAX_VALUE;
+            int[] data = new int[size];
+            for (int i = 0; i < size; i++) {
+                data[i] = random.nextBoolean() ? 5 : random.nextInt(range);
+            }
+            if (trial % 4 == 0) {
+                Arrays.sort(data);
+            }
+            
+            Integer expected = reference.findMajorityElementNaive(data);
+            assertEquals(expected, selector.findMajorityElement(data));
+            for (AdaptiveMajoritySelector.Strategy strategy : AdaptiveMajoritySelector.Strategy.values()) {
+                assertEquals(expected, selector.findMajorityElement(data, strategy), strategy + " on trial " + trial);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Counting table falls back when the sample misses an outlier")
+    void testCountingTableOutlier() {
+        int[] data = new int[1000];
+        Arrays.fill(data, 0, 400, 3);
+        for (int i = 400; i < 1000; i++) {
+            data[i] = i % 50;
+        }
+        data[1] = Integer.MIN_VALUE;
+        
+        AdaptiveMajoritySelector selector = new AdaptiveMajoritySelector();
+        assertEquals(reference.findMajorityElementNaive(data),
+            selector.findMajorityElement(data, AdaptiveMajoritySelector.Strategy.COUNTING_TABLE));
+        PerformanceTracker tracker = selector.getPerformanceTracker();
+        assertEquals("strategy:COUNTING_TABLE>BOYER_MOORE", tracker.getInputType());
+        assertEquals(1, tracker.getMemoryAllocations());
+        
+        data[1] = 3;
+        selector.findMajorityElement(data, AdaptiveMajoritySelector.Strategy.COUNTING_TABLE);
+        assertEquals("strategy:COUNTING_TABLE", tracker.getInputType());
+        assertEquals(1, tracker.getMemoryAllocations());
+    }
+    
+    @Test
+    @DisplayName("Strategy choice follows size, range and sortedness")
+    void testStrategyChoice() {
+        BenchmarkInputs inputs = new BenchmarkInputs(10_000);
+        AdaptiveMajoritySelector selector = new AdaptiveMajoritySelector();
+        
+        assertEquals(AdaptiveMajoritySelector.Strategy.BOYER_MOORE, selector.choose(new int[] {1, 2, 1}));
+        assertEquals(AdaptiveMajoritySelector.Strategy.SORTED_RUN, selector.choose(inputs.sorted));
+        assertEquals(AdaptiveMajoritySelector.Strategy.COUNTING_TABLE, selector.choose(inputs.smallRange));
+        assertEquals(AdaptiveMajoritySelector.Strategy.BOYER_MOORE, selector.choose(inputs.wideRange));
+        
+        selector.withParallelThreshold(5_000);
+        assertEquals(AdaptiveMajoritySelector.Strategy.PARALLEL, selector.choose(inputs.smallRange));
+        assertEquals(AdaptiveMajoritySelector.Strategy.SORTED_RUN, selector.choose(inputs.sorted));
+    }
+    
+    @Test
+    @DisplayName("Decision is recorded in the tracker")
+    void testDecisionRecorded() {
+        AdaptiveMajoritySelector selector = new AdaptiveMajoritySelector();
+        int[] sorted = new BenchmarkInputs(1_000).sorted;
+        
+        assertEquals(Integer.valueOf(1), selector.findMajorityElement(sorted));
+        assertEquals(AdaptiveMajoritySelector.Strategy.SORTED_RUN, selector.getLastStrategy());
+        assertEquals("adaptive:SORTED_RUN", selector.getPerformanceTracker().getInputType());
+        assertTrue(selector.getPerformanceTracker().getArrayAccesses() < sorted.length);
+        
+        selector.findMajorityElement(sorted, AdaptiveMajoritySelector.Strategy.BOYER_MOORE);
+        assertEquals("strategy:BOYER_MOORE", selector.getPerformanceTracker().getInputType());
+        
+        int[] noMajority = new int[1_000];
+        for (int i = 0; i < noMajority.length; i++) {
+            noMajority[i] = i / 10;
+        }
+        assertNull(selector.findMajorityElement(noMajority));
+        assertEquals("adaptive:SORTED_RUN>BOYER_MOORE", selector.getPerformanceTracker().getInputType());
+        
+        selector.findMajorityElement(sorted, AdaptiveMajoritySelector.Strategy.PARALLEL);
+        assertEquals(2L * sorted.length, selector.getPerformanceTracker().getComparisons());
+    }
+    
+    @Test
+    @DisplayName("Calibration picks the first size from which parallel keeps winning")
+    void testCalibration() {
+        List<PerformanceTracker.PerformanceResult> results = new ArrayList<>();
+        long[][] timings = {{1_000, 100, 500}, {10_000, 1_000, 900}, {100_000, 10_000, 12_000},
+                            {1_000_000, 100_000, 40_000}, {10_000_000, 1_000_000, 300_000}};
+        for (long[] row : timings) {
+            results.add(result((int) row[0], "strategy:BOYER_MOORE", row[1]));
+            results.add(result((int) row[0], "strategy:PARALLEL", row[2]));
+            results.add(result((int) row[0], "adaptive:PARALLEL", 1));
+        }
+        
+        AdaptiveMajoritySelector selector = new AdaptiveMajoritySelector();
+        assertTrue(selector.calibrate(results));
+        assertEquals(1_000_000, selector.getParallelThreshold());
+        
+        AdaptiveMajoritySelector unchanged = new AdaptiveMajoritySelector();
+        assertFalse(unchanged.calibrate(results.subList(0, 3)));
+        assertEquals(1 << 20, unchanged.getParallelThreshold());
+    }
+    
+    @Test
+    @DisplayName("Empty and null inputs have no majority")
+    void testEmpty() {
+        AdaptiveMajoritySelector selector = new AdaptiveMajoritySelector();
+        assertNull(selector.findMajorityElement(null));
+        assertNull(selector.findMajorityElement(new int[0]));
+    }
+    
+    private static PerformanceTracker.PerformanceResult result(int size, String type, long ns) {
+        return new PerformanceTracker.PerformanceResult("Adaptive Majority Selector", size, type, 0, 0, 0, ns);
+    }
+    
+    private static final class BenchmarkInputs {
+        final int[] sorted;
+        final int[] smallRange;
+        final int[] wideRange;
+        
+        BenchmarkInputs(int size) {
+            Random random = new Random(3);
+            sorted = new int[size];
+            smallRange = new int[size];
+            wideRange = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = i <= size / 2 ? 1 : i;
+                smallRange[i] = random.nextInt(100);
+                wideRange[i] = random.nextInt();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class AnytimeMajorityTest {
+
+    private final BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+
+    @Test
+    @DisplayName("A generous budget gives the exact, verified answer")
+    void testVerifiedAgreement() {
+        Random random = new Random(31);
+        AnytimeMajority engine = new AnytimeMajority(new Random(5), 16, System::nanoTime);
+        for (int trial = 0; trial < 300; trial++) {
+            int[] nums = new int[1 + random.nextInt(500)];
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextInt(10) < 4 + trial % 3 ? 7 : random.nextInt(4);
+            }
+            if (trial % 5 == 0) {
+                Arrays.sort(nums);
+            }
+            AnytimeMajority.Result result = engine.findMajorityElement(nums, 10, TimeUnit.SECONDS);
+            assertEquals(AnytimeMajority.Status.VERIFIED, result.getStatus(), "trial " + trial);
+            assertEquals(reference.findMajorityElementNaive(nums), result.getCandidate(), "trial " + trial);
+            assertEquals(1.0, result.getConfidence());
+        }
+    }
+
+    @Test
+    @DisplayName("A clear majority verifies within one pass")
+    void testSinglePassVerification() {
+        int[] nums = new int[100_000];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = i % 4 == 0 ? i : 42;
+        }
+        AnytimeMajority.Result result = new AnytimeMajority(7).findMajorityElement(nums, 10, TimeUnit.SECONDS);
+        assertTrue(result.isVerified());
+        assertEquals(Integer.valueOf(42), result.getCandidate());
+        assertTrue(result.getScanned() < nums.length, "settled after " + result.getScanned());
+    }
+
+    @Test
+    @DisplayName("An expired budget after part of the blocks reports a Hoeffding confidence")
+    void testPartialVerification() {
+        Random random = new Random(37);
+        int[] nums = new int[64 * 200];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(10) < 7 ? 7 : random.nextInt(1000);
+        }
+        // Each clock read advances one tick: 100 blocks fit, and the 99 after
+        // the nominating block form the sample.
+        AnytimeMajority engine = new AnytimeMajority(new Random(3), 64, ticks());
+        AnytimeMajority.Result result = engine.findMajorityElement(nums, 100, TimeUnit.NANOSECONDS);
+
+        assertEquals(AnytimeMajority.Status.PARTIALLY_VERIFIED, result.getStatus());
+        assertEquals(Integer.valueOf(7), result.getCandidate());
+        assertEquals(0.5, result.getFractionScanned(), 0.02);
+        double share = (double) result.getCandidateCount() / result.getScanned();
+        assertEquals(0.7, share, 0.05);
+        double margin = share - 0.5;
+        assertEquals(1.0 - Math.exp(-2.0 * 99 * margin * margin), result.getConfidence(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("An already expired budget still names a candidate, marked unknown")
+    void testExpiredBudget() {
+        int[] nums = new int[10_000];
+        Arrays.fill(nums, 9);
+        AnytimeMajority engine = new AnytimeMajority(new Random(1), 128, System::nanoTime);
+        AnytimeMajority.Result result = engine.findMajorityElement(nums, 0, TimeUnit.NANOSECONDS);
+        assertEquals(AnytimeMajority.Status.UNKNOWN, result.getStatus());
+        assertEquals(Integer.valueOf(9), result.getCandidate());
+        assertEquals(0.0, result.getConfidence());
+        assertEquals(0.0, result.getFractionScanned());
+
+        AnytimeMajority.Result empty = engine.findMajorityElement(new int[0], 0, TimeUnit.NANOSECONDS);
+        assertTrue(empty.isVerified());
+        assertNull(empty.getCandidate());
+        assertThrows(IllegalArgumentException.class, () -> new AnytimeMajority(new Random(), 0, System::nanoTime));
+    }
+
+    private static LongSupplier ticks() {
+        long[] now = {0};
+        return () -> now[0]++;
+    }
+}
@@ -0,0 +1,66 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class BigIntArrayTest {
+    
+    private final BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+    
+    @Test
+    @DisplayName("Chunked storage reads back what was written")
+    void testStorage() {
+        for (BigIntArray array : new BigIntArray[] {BigIntArray.onHeap(100, 4), BigIntArray.offHeap(100, 4)}) {
+            assertEquals(7, array.chunkCount());
+            assertEquals(16, array.chunkLength(0));
+            assertEquals(4, array.chunkLength(6));
+            array.setAll(i -> (int) (i * 3));
+            for (long i = 0; i < 100; i++) {
+                assertEquals(i * 3, array.get(i));
+            }
+            array.copyFrom(new int[] {-1, -2}, 15);
+            assertEquals(-1, array.get(15));
+            assertEquals(-2, array.get(16));
+            assertThrows(IndexOutOfBoundsException.class, () -> array.get(100));
+            assertThrows(IndexOutOfBoundsException.class, () -> array.set(-1, 0));
+        }
+    }
+    
+    @Test
+    @DisplayName("Sequential and parallel majorities match the int[] algorithm")
+    void testMajorityAgreement() {
+        Random random = new Random(21);
+        for (int trial = 0; trial < 100; trial++) {
+            int[] nums = new int[1 + random.nextInt(500)];
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextInt(3);
+            }
+            Integer expected = algorithm.findMajorityElementNaive(nums);
+            
+            int shift = 1 + random.nextInt(6);
+            BigIntArray heap = BigIntArray.onHeap(nums.length, shift);
+            BigIntArray direct = BigIntArray.offHeap(nums.length, shift);
+            heap.copyFrom(nums, 0);
+            direct.copyFrom(nums, 0);
+            
+            assertEquals(expected, algorithm.findMajorityElementInBigArray(heap), "trial " + trial);
+            assertEquals(expected, algorithm.findMajorityElementInBigArrayParallel(heap));
+            assertEquals(expected, algorithm.findMajorityElementInBigArray(direct));
+            assertEquals(expected, algorithm.findMajorityElementInBigArrayParallel(direct));
+        }
+    }
+    
+    @Test
+    @DisplayName("Tracker carries long sizes")
+    void testLongInputSize() {
+        BigIntArray array = BigIntArray.of(new int[] {4, 4, 1});
+        assertEquals(Integer.valueOf(4), algorithm.findMajorityElementInBigArray(array));
+        assertEquals(3L, algorithm.getPerformanceTracker().getInputSize());
+        assertEquals("big-on-heap", algorithm.getPerformanceTracker().getInputType());
+        assertNull(algorithm.findMajorityElementInBigArray(BigIntArray.onHeap(0)));
+        assertThrows(IllegalArgumentException.class, () -> BigIntArray.onHeap(-1));
+    }
+}
@@ -5,7 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import metrics.PerformanceTracker;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.Random;
 import java.util.Arrays;
 
@@ -176,6 +182,64 @@ public class BoyerMooreMajorityVoteTest {
         }
     }
     
+    @Nested
+    @DisplayName("Buffer Inputs")
+    class BufferInputs {
+        
+        @Test
+        @DisplayName("Heap and direct IntBuffer agree with int[]")
+        void testIntBuffers() {
+            int[] nums = {2, 2, 1, 1, 1, 2, 2};
+            IntBuffer direct = ByteBuffer.allocateDirect(nums.length * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+            direct.put(nums).flip();
+            
+            assertEquals(Integer.valueOf(2), algorithm.findMajorityElementInBuffer(IntBuffer.wrap(nums)));
+            assertEquals(Integer.valueOf(2), algorithm.findMajorityElementInBuffer(direct));
+            assertEquals(0, direct.position());
+        }
+        
+        @Test
+        @DisplayName("IntBuffer respects position and limit")
+        void testIntBufferWindow() {
+            int[] nums = {9, 9, 9, 1, 2, 1, 9};
+            IntBuffer window = IntBuffer.wrap(nums, 3, 3);
+            
+            assertEquals(Integer.valueOf(1), algorithm.findMajorityElementInBuffer(window));
+            assertEquals(3, algorithm.getPerformanceTracker().getInputSize());
+        }
+        
+        @Test
+        @DisplayName("Direct ByteBuffer in either byte order")
+        void testByteBufferOrders() {
+            Random random = new Random(5);
+            for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+                for (int test = 0; test < 50; test++) {
+                    int[] nums = new int[1 + random.nextInt(60)];
+                    for (int i = 0; i < nums.length; i++) {
+                        nums[i] = random.nextInt(3) - 1;
+                    }
+                    ByteBuffer buffer = ByteBuffer.allocateDirect(nums.length * 4 + 4).order(order);
+                    buffer.putInt(12345);
+                    for (int value : nums) {
+                        buffer.putInt(value);
+                    }
+                    buffer.flip().position(4);
+                    
+                    assertEquals(algorithm.findMajorityElementNaive(nums), algorithm.findMajorityElementInBuffer(buffer),
+                        "Results differ for input: " + Arrays.toString(nums));
+                }
+            }
+        }
+        
+        @Test
+        @DisplayName("Misaligned ByteBuffer length is rejected")
+        void testByteBufferLength() {
+            assertThrows(IllegalArgumentException.class,
+                () -> algorithm.findMajorityElementInBuffer(ByteBuffer.allocate(7)));
+            assertNull(algorithm.findMajorityElementInBuffer(ByteBuffer.allocate(0)));
+        }
+    }
+    
     @Nested
     @DisplayName("Performance Validation")
     class PerformanceValidation {
@@ -194,6 +258,27 @@ public class BoyerMooreMajorityVoteTest {
             assertEquals("test-input", tracker.getInputType());
         }
         
+        @Test
+        @DisplayName("Allocation accounting sees heap use, not candidate changes")
+        void testAllocationAccounting() {
+            assumeTrue(PerformanceTracker.isAllocationTrackingSupported());
+            int[] nums = new int[100000];
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = i * 7919;
+            }
+            
+            algorithm.findMajorityElement(nums, "warm-up");
+            algorithm.findMajorityElement(nums, "no-allocation");
+            var tracker = algorithm.getPerformanceTracker();
+            assertTrue(tracker.getAllocatedBytes() < 4096,
+                "Scan allocated " + tracker.getAllocatedBytes() + " bytes");
+            assertTrue(tracker.getGcCount() >= 0);
+            
+            algorithm.findMajorityOrMode(nums);
+            assertTrue(tracker.getAllocatedBytes() >= 4L * nums.length,
+                "Radix fallback copies the input, got " + tracker.getAllocatedBytes() + " bytes");
+        }
+        
         @Test
         @DisplayName("Linear time complexity validation")
         void testLinearTimeComplexity() {
@@ -0,0 +1,115 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class ByteKeyMajorityTest {
+
+    private final ByteKeyMajority engine = new ByteKeyMajority();
+
+    @Test
+    @DisplayName("Byte-key majority matches a String-based count")
+    void testAgreementWithStrings() {
+        Random random = new Random(23);
+        String[] vocabulary = {"", "eu", "us-east-1", "us-east-2", "Mozilla/5.0 (X11; Linux x86_64)",
+            "Mozilla/5.0 (X11; Linux x86_65)", "SKU-000012345", "SKU-000012346", "été", "日本"};
+        for (int trial = 0; trial < 200; trial++) {
+            String[] keys = new String[random.nextInt(300)];
+            String favourite = vocabulary[random.nextInt(vocabulary.length)];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextInt(10) < 5 + trial % 3 ? favourite : vocabulary[random.nextInt(vocabulary.length)];
+            }
+            int[] offsets = new int[keys.length + 1];
+            byte[] data = pack(keys, offsets);
+
+            String expected = stringMajority(keys);
+            Integer index = engine.findMajorityElement(data, offsets);
+            if (expected == null) {
+                assertNull(index, "trial " + trial);
+            } else {
+                assertNotNull(index, "trial " + trial);
+                assertEquals(expected, keys[index]);
+                assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), engine.findMajorityKey(data, offsets));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Keys that differ only in their last byte or length are distinct")
+    void testNearDuplicates() {
+        String[] keys = {"region-000A", "region-000B", "region-000A", "region-000", "region-000A", "region-000A0"};
+        int[] offsets = new int[keys.length + 1];
+        byte[] data = pack(keys, offsets);
+        assertNull(engine.findMajorityElement(data, offsets));
+
+        String[] majority = {"region-000A", "region-000B", "region-000A", "region-000A"};
+        offsets = new int[majority.length + 1];
+        data = pack(majority, offsets);
+        assertEquals("region-000A", new String(engine.findMajorityKey(data, offsets), StandardCharsets.UTF_8));
+        assertEquals(4, engine.getPerformanceTracker().getInputSize());
+    }
+
+    @Test
+    @DisplayName("Fingerprints depend on every byte and the key length")
+    void testFingerprint() {
+        byte[] data = new byte[40];
+        long empty = ByteKeyMajority.fingerprint(data, 0, 0);
+        assertNotEquals(empty, ByteKeyMajority.fingerprint(data, 0, 1));
+        assertNotEquals(ByteKeyMajority.fingerprint(data, 0, 8), ByteKeyMajority.fingerprint(data, 0, 9));
+        long zeros = ByteKeyMajority.fingerprint(data, 0, 17);
+        for (int i = 0; i < 17; i++) {
+            data[i] = 1;
+            assertNotEquals(zeros, ByteKeyMajority.fingerprint(data, 0, 17), "byte " + i);
+            data[i] = 0;
+        }
+        assertEquals(ByteKeyMajority.fingerprint(data, 3, 20), ByteKeyMajority.fingerprint(data, 21, 38));
+
+        // A tail at the end of the buffer is read byte by byte, elsewhere as
+        // one masked long; both must agree.
+        byte[] key = "user-agent/12345".getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[key.length * 3];
+        System.arraycopy(key, 0, buffer, key.length, key.length);
+        System.arraycopy(key, 0, buffer, 2 * key.length, key.length);
+        assertEquals(ByteKeyMajority.fingerprint(buffer, key.length, 2 * key.length),
+            ByteKeyMajority.fingerprint(buffer, 2 * key.length, buffer.length));
+        assertEquals(ByteKeyMajority.fingerprint(buffer, key.length, key.length + 5),
+            ByteKeyMajority.fingerprint(buffer, buffer.length - key.length, buffer.length - key.length + 5));
+    }
+
+    @Test
+    @DisplayName("Empty input yields null and malformed offsets are rejected")
+    void testEdgeCases() {
+        assertNull(engine.findMajorityElement(null, new int[] {0}));
+        assertNull(engine.findMajorityElement(new byte[0], new int[] {0}));
+        assertEquals(Integer.valueOf(0), engine.findMajorityElement(new byte[0], new int[] {0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> engine.findMajorityElement(new byte[4], new int[] {0, 3, 2}));
+        assertThrows(IllegalArgumentException.class, () -> engine.findMajorityElement(new byte[4], new int[] {0, 5}));
+    }
+
+    private static byte[] pack(String[] keys, int[] offsets) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < keys.length; i++) {
+            offsets[i] = out.size();
+            out.writeBytes(keys[i].getBytes(StandardCharsets.UTF_8));
+        }
+        offsets[keys.length] = out.size();
+        return out.toByteArray();
+    }
+
+    private static String stringMajority(String[] keys) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String key : keys) {
+            if (counts.merge(key, 1, Integer::sum) > keys.length / 2) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,188 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class CheckpointFileTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    @DisplayName("Latest checkpoint survives reopening")
+    void testRoundTrip() throws IOException {
+        Path path = directory.resolve("state.ckpt");
+        try (CheckpointFile file = new CheckpointFile(path, 64)) {
+            assertNull(file.restore());
+            file.write(bytes("first"));
+            file.write(bytes("second"));
+            file.write(bytes("third"));
+            assertEquals(3, file.getSequence());
+        }
+        try (CheckpointFile file = new CheckpointFile(path, 64)) {
+            assertEquals("third", text(file.restore()));
+            assertEquals(3, file.getSequence());
+            file.write(bytes("fourth"));
+        }
+        try (CheckpointFile file = new CheckpointFile(path, 64, false)) {
+            assertEquals("fourth", text(file.restore()));
+        }
+    }
+    
+    @Test
+    @DisplayName("Corrupt or half-written slot falls back to the other one")
+    void testTornWrites() throws IOException {
+        Path path = directory.resolve("state.ckpt");
+        try (CheckpointFile file = new CheckpointFile(path, 64)) {
+            file.write(bytes("older"));
+            file.write(bytes("newer"));
+        }
+        // "newer" went to slot B; flip one payload byte.
+        long slotB = CheckpointFile.FILE_HEADER_SIZE + CheckpointFile.SLOT_HEADER_SIZE + 64;
+        try (RandomAccessFile raw = new RandomAccessFile(path.toFile(), "rw")) {
+            raw.seek(slotB + CheckpointFile.SLOT_HEADER_SIZE);
+            raw.write('N');
+        }
+        try (CheckpointFile file = new CheckpointFile(path, 64)) {
+            assertEquals("older", text(file.restore()));
+            assertEquals(1, file.getSequence());
+            file.write(bytes("rewritten"));
+        }
+        
+        // Crash before the final sequence store: "rewritten" reused slot B,
+        // which now holds bytes but no sequence.
+        try (RandomAccessFile raw = new RandomAccessFile(path.toFile(), "rw")) {
+            raw.seek(slotB);
+            raw.writeLong(0);
+        }
+        try (CheckpointFile file = new CheckpointFile(path, 64)) {
+            assertEquals("older", text(file.restore()));
+        }
+    }
+    
+    @Test
+    @DisplayName("Capacity is enforced")
+    void testCapacity() throws IOException {
+        Path path = directory.resolve("state.ckpt");
+        try (CheckpointFile file = new CheckpointFile(path, 4)) {
+            assertThrows(IllegalArgumentException.class, () -> file.write(new byte[5]));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointFile(path, 8));
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointFile(directory.resolve("x"), 0));
+    }
+    
+    @Test
+    @DisplayName("Corrupt headers are rejected and the file is not left open")
+    void testCorruptHeader() throws IOException {
+        Path path = directory.resolve("state.ckpt");
+        try (CheckpointFile file = new CheckpointFile(path, 16)) {
+            file.write(bytes("state"));
+        }
+        int[] badCapacities = {0, -1, -5};
+        for (int capacity : badCapacities) {
+            try (RandomAccessFile raw = new RandomAccessFile(path.toFile(), "rw")) {
+                raw.seek(4);
+                raw.writeInt(capacity);
+            }
+            assertThrows(IllegalArgumentException.class, () -> new CheckpointFile(path, 16));
+            assertEquals(0, openHandles(path), "capacity " + capacity);
+        }
+        
+        try (RandomAccessFile raw = new RandomAccessFile(path.toFile(), "rw")) {
+            raw.seek(0);
+            raw.writeInt(0xCAFEBABE);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointFile(path, 16));
+        assertEquals(0, openHandles(path));
+    }
+    
+    @Test
+    @DisplayName("Accumulators close their file when the checkpoint cannot be used")
+    void testAccumulatorClosesOnFailure() throws IOException {
+        Path path = directory.resolve("majority.ckpt");
+        assertThrows(IllegalArgumentException.class, () -> CheckpointedAccumulator.majority(path, 0));
+        assertEquals(0, openHandles(path));
+        
+        // Valid CRC, but not a MajoritySummary payload.
+        try (CheckpointFile file = new CheckpointFile(path, MajoritySummary.ENCODED_SIZE)) {
+            file.write(new byte[MajoritySummary.ENCODED_SIZE]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> CheckpointedAccumulator.majority(path, 100));
+        assertEquals(0, openHandles(path));
+    }
+    
+    @Test
+    @DisplayName("Accumulators resume from their last checkpoint")
+    void testCheckpointedAccumulators() throws IOException {
+        Path majorityPath = directory.resolve("majority.ckpt");
+        Path heavyPath = directory.resolve("heavy.ckpt");
+        Random random = new Random(4);
+        int[] events = new int[1000];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = random.nextInt(10) < 6 ? 8 : random.nextInt(50);
+        }
+        
+        try (CheckpointedAccumulator<MajoritySummary> majority = CheckpointedAccumulator.majority(majorityPath, 100);
+             CheckpointedAccumulator<MisraGriesSummary> heavy = CheckpointedAccumulator.heavyHitters(heavyPath, 4, 100)) {
+            assertFalse(majority.wasRestored());
+            for (int from = 0; from < 500; from += 50) {
+                majority.state().addAll(events, from, from + 50);
+                majority.recorded(50);
+                heavy.state().addAll(events, from, from + 50);
+                heavy.recorded(50);
+            }
+            assertEquals(5, majority.getCheckpointCount());
+        }
+        
+        try (CheckpointedAccumulator<MajoritySummary> majority = CheckpointedAccumulator.majority(majorityPath, 100);
+             CheckpointedAccumulator<MisraGriesSummary> heavy = CheckpointedAccumulator.heavyHitters(heavyPath, 4, 100)) {
+            assertTrue(majority.wasRestored());
+            assertEquals(500, majority.state().getTotal());
+            majority.state().addAll(events, 500, 1000);
+            heavy.state().addAll(events, 500, 1000);
+            
+            MajoritySummary expected = MajoritySummary.of(events);
+            assertEquals(expected.getCandidate(), majority.state().getCandidate());
+            assertEquals(expected.getCount(), majority.state().getCount());
+            assertEquals(1000, heavy.state().getTotal());
+            assertTrue(heavy.state().estimatedCount(8) > 0);
+        }
+    }
+    
+    // Descriptors this process holds on path (Linux /proc); 0 where /proc is absent.
+    private static long openHandles(Path path) throws IOException {
+        Path fds = Paths.get("/proc/self/fd");
+        if (!Files.isDirectory(fds)) {
+            return 0;
+        }
+        Path target = path.toRealPath();
+        try (Stream<Path> entries = Files.list(fds)) {
+            return entries.filter(fd -> {
+                try {
+                    return Files.readSymbolicLink(fd).equals(target);
+                } catch (IOException e) {
+                    return false;
+                }
+            }).count();
+        }
+    }
+    
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,94 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class CompressedMajorityTest {
+    
+    private final BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+    private final CompressedMajority engine = new CompressedMajority();
+    
+    @Test
+    @DisplayName("Encodings round-trip, including extreme values")
+    void testRoundTrip() {
+        Random random = new Random(13);
+        for (int trial = 0; trial < 100; trial++) {
+            int[] nums = data(random, trial);
+            assertArrayEquals(nums, RunLengthEncodedInts.encode(nums).decode());
+            for (PackedIntBlocks.Encoding encoding : PackedIntBlocks.Encoding.values()) {
+                assertArrayEquals(nums, PackedIntBlocks.encode(nums, encoding).decode(), encoding + " trial " + trial);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Majorities over encodings match the uncompressed result")
+    void testMajorityAgreement() {
+        Random random = new Random(17);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] nums = data(random, trial);
+            Integer expected = reference.findMajorityElementNaive(nums);
+            
+            RunLengthEncodedInts runs = RunLengthEncodedInts.encode(nums);
+            assertEquals(expected, engine.findMajorityElement(runs), "rle trial " + trial);
+            for (PackedIntBlocks.Encoding encoding : PackedIntBlocks.Encoding.values()) {
+                PackedIntBlocks blocks = PackedIntBlocks.encode(nums, encoding);
+                assertEquals(expected, engine.findMajorityElement(blocks), encoding + " trial " + trial);
+                int probe = nums.length == 0 ? 0 : nums[random.nextInt(nums.length)];
+                assertEquals(Arrays.stream(nums).filter(v -> v == probe).count(), blocks.count(probe));
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Runs are weighted Boyer-Moore steps")
+    void testRunArithmetic() {
+        RunLengthEncodedInts runs = RunLengthEncodedInts.of(new int[] {5, 9, 5}, new long[] {3_000_000_000L, 2_000_000_000L, 1});
+        assertEquals(5_000_000_001L, runs.length());
+        assertEquals(3, runs.runCount());
+        assertEquals(Integer.valueOf(5), engine.findMajorityElement(runs));
+        assertEquals(5_000_000_001L, engine.getPerformanceTracker().getInputSize());
+        assertThrows(IllegalArgumentException.class, () -> RunLengthEncodedInts.of(new int[] {1}, new long[] {0}));
+    }
+    
+    @Test
+    @DisplayName("Small value ranges pack into narrow blocks")
+    void testCompression() {
+        int[] nums = new int[10_000];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = 1_000_000 + (i % 16);
+        }
+        PackedIntBlocks blocks = PackedIntBlocks.encode(nums, PackedIntBlocks.Encoding.FRAME_OF_REFERENCE);
+        assertTrue(blocks.compressedBytes() < nums.length * 4L / 6);
+        assertNull(engine.findMajorityElement(blocks));
+        assertNull(engine.findMajorityElement(PackedIntBlocks.encode(new int[0], PackedIntBlocks.Encoding.DELTA)));
+    }
+    
+    private static int[] data(Random random, int trial) {
+        int[] nums = new int[random.nextInt(600)];
+        for (int i = 0; i < nums.length; i++) {
+            switch (trial % 4) {
+                case 0:
+                    nums[i] = random.nextBoolean() ? 7 : random.nextInt(5);
+                    break;
+                case 1:
+                    nums[i] = random.nextInt(3) == 0 ? Integer.MIN_VALUE : random.nextBoolean() ? Integer.MAX_VALUE : 0;
+                    break;
+                case 2:
+                    nums[i] = i / (1 + random.nextInt(40)) % 3;
+                    break;
+                default:
+                    nums[i] = random.nextInt();
+                    break;
+            }
+        }
+        if (trial % 5 == 0) {
+            Arrays.sort(nums);
+        }
+        return nums;
+    }
+}
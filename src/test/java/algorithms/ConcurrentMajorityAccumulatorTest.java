@@ -0,0 +1,101 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentMajorityAccumulatorTest {
+    
+    @Test
+    @DisplayName("Single thread matches a plain summary")
+    void testSingleThread() {
+        ConcurrentMajorityAccumulator accumulator = new ConcurrentMajorityAccumulator();
+        int[] nums = {3, 1, 3, 2, 3, 3};
+        for (int value : nums) {
+            accumulator.add(value);
+        }
+        accumulator.add(9, 2);
+        accumulator.addAll(new int[] {3, 3});
+        
+        MajoritySummary expected = MajoritySummary.of(nums).merge(MajoritySummary.of(new int[] {9, 9, 3, 3}));
+        MajoritySummary snapshot = accumulator.snapshot();
+        assertEquals(expected.getCandidate(), snapshot.getCandidate());
+        assertEquals(10, snapshot.getTotal());
+        assertEquals(10, accumulator.getTotal());
+        assertEquals(1, accumulator.cellCount());
+    }
+    
+    @Test
+    @DisplayName("Concurrent producers keep the global majority; readers never see torn cells")
+    void testConcurrentProducers() throws Exception {
+        int producers = 8;
+        int perProducer = 200_000;
+        ConcurrentMajorityAccumulator accumulator = new ConcurrentMajorityAccumulator();
+        ExecutorService pool = Executors.newFixedThreadPool(producers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+        
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int seed = p;
+                futures.add(pool.submit(() -> {
+                    Random random = new Random(seed);
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        if (i % 1000 == 500) {
+                            accumulator.addAll(new int[] {42, 42, random.nextInt(100)});
+                            i += 2;
+                        } else {
+                            accumulator.add(random.nextInt(10) < 6 ? 42 : random.nextInt(100));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> reader = pool.submit(() -> {
+                start.await();
+                long lastTotal = 0;
+                while (!done.get()) {
+                    MajoritySummary snapshot = accumulator.snapshot();
+                    assertTrue(snapshot.getCount() <= snapshot.getTotal());
+                    assertTrue(snapshot.getTotal() >= lastTotal);
+                    lastTotal = snapshot.getTotal();
+                }
+                return null;
+            });
+            
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        
+        MajoritySummary snapshot = accumulator.snapshot();
+        assertEquals(Integer.valueOf(42), snapshot.getCandidate());
+        assertEquals((long) producers * perProducer, snapshot.getTotal());
+        assertEquals(producers, accumulator.cellCount());
+    }
+    
+    @Test
+    @DisplayName("Empty accumulator has no candidate")
+    void testEmpty() {
+        ConcurrentMajorityAccumulator accumulator = new ConcurrentMajorityAccumulator();
+        assertNull(accumulator.candidate());
+        assertEquals(0, accumulator.getTotal());
+    }
+}
@@ -0,0 +1,89 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class DynamicMajorityIndexTest {
+    
+    private final BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+    
+    @Test
+    @DisplayName("Initial majority matches findMajorityElement")
+    void testInitialMajority() {
+        int[] nums = {1, 2, 1, 3, 1, 4, 1};
+        DynamicMajorityIndex index = new DynamicMajorityIndex(nums);
+        
+        assertEquals(Integer.valueOf(1), index.majority());
+        assertEquals(4, index.count(1, 0, 7));
+        assertEquals(Integer.valueOf(2), index.majority(1, 2));
+        assertNull(index.majority(0, 2));
+    }
+    
+    @Test
+    @DisplayName("Point updates flip the majority")
+    void testPointUpdates() {
+        DynamicMajorityIndex index = new DynamicMajorityIndex(new int[] {5, 5, 5, 2, 2});
+        assertEquals(Integer.valueOf(5), index.majority());
+        
+        index.set(0, 2);
+        assertEquals(Integer.valueOf(2), index.majority());
+        assertEquals(2, index.get(0));
+        
+        index.set(3, 7);
+        assertNull(index.majority());
+    }
+    
+    @Test
+    @DisplayName("Empty and single-element indexes")
+    void testEdgeCases() {
+        DynamicMajorityIndex empty = new DynamicMajorityIndex(new int[0]);
+        assertNull(empty.majority());
+        assertEquals(0, empty.size());
+        
+        DynamicMajorityIndex single = new DynamicMajorityIndex(new int[] {-3});
+        assertEquals(Integer.valueOf(-3), single.majority());
+        single.set(0, Integer.MIN_VALUE);
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), single.majority());
+    }
+    
+    @Test
+    @DisplayName("Out-of-range access is rejected")
+    void testBounds() {
+        DynamicMajorityIndex index = new DynamicMajorityIndex(new int[] {1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> index.set(3, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.majority(2, 1));
+    }
+    
+    @Test
+    @DisplayName("Random updates and range queries agree with naive rescans")
+    void testRandomOperations() {
+        Random random = new Random(42);
+        int[] mirror = new int[257];
+        for (int i = 0; i < mirror.length; i++) {
+            mirror[i] = random.nextInt(4);
+        }
+        DynamicMajorityIndex index = new DynamicMajorityIndex(mirror);
+        
+        for (int op = 0; op < 3000; op++) {
+            if (random.nextBoolean()) {
+                int i = random.nextInt(mirror.length);
+                int value = random.nextInt(4) - (random.nextInt(10) == 0 ? 100 : 0);
+                mirror[i] = value;
+                index.set(i, value);
+            } else {
+                int from = random.nextInt(mirror.length);
+                int to = from + random.nextInt(mirror.length - from + 1);
+                int[] slice = Arrays.copyOfRange(mirror, from, to);
+                assertEquals(algorithm.findMajorityElementNaive(slice), index.majority(from, to),
+                    "Range [" + from + ", " + to + ")");
+            }
+        }
+        
+        assertArrayEquals(mirror, index.toArray());
+        assertEquals(algorithm.findMajorityElement(mirror), index.majority());
+    }
+}
@@ -0,0 +1,103 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class GroupedMajorityTest {
+    
+    private GroupedMajority engine;
+    private BoyerMooreMajorityVote algorithm;
+    
+    @BeforeEach
+    void setUp() {
+        engine = new GroupedMajority();
+        algorithm = new BoyerMooreMajorityVote();
+    }
+    
+    @Test
+    @DisplayName("Small example with and without majorities")
+    void testSmallExample() {
+        int[] keys   = {1, 2, 1, 2, 1, 3, 2};
+        int[] values = {7, 5, 7, 6, 8, 9, 5};
+        
+        GroupedMajority.Result result = engine.aggregate(keys, values);
+        
+        assertEquals(3, result.size());
+        assertArrayEquals(new int[] {1, 2, 3}, result.getKeys());
+        assertArrayEquals(new int[] {3, 3, 1}, result.getGroupSizes());
+        assertEquals(Integer.valueOf(7), result.majorityFor(1));
+        assertEquals(Integer.valueOf(5), result.majorityFor(2));
+        assertEquals(Integer.valueOf(9), result.majorityFor(3));
+        assertNull(result.majorityFor(42));
+    }
+    
+    @Test
+    @DisplayName("Group without majority is flagged")
+    void testGroupWithoutMajority() {
+        GroupedMajority.Result result = engine.aggregate(new int[] {4, 4, 4, 4}, new int[] {1, 1, 2, 2});
+        assertFalse(result.hasMajorityAt(0));
+        assertNull(result.majorityFor(4));
+    }
+    
+    @Test
+    @DisplayName("Empty input yields an empty result")
+    void testEmptyInput() {
+        assertEquals(0, engine.aggregate(new int[0], new int[0]).size());
+        assertEquals(0, engine.aggregateParallel(new int[0], new int[0], 4).size());
+    }
+    
+    @Test
+    @DisplayName("Mismatched column lengths are rejected")
+    void testMismatchedLengths() {
+        assertThrows(IllegalArgumentException.class, () -> engine.aggregate(new int[2], new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> engine.aggregate(null, new int[0]));
+    }
+    
+    @Test
+    @DisplayName("Sequential and parallel agree with per-group findMajorityElement")
+    void testAgreesWithBoxedGrouping() {
+        Random random = new Random(42);
+        int n = 50000;
+        int[] keys = new int[n];
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(2000) - 1000;
+            values[i] = random.nextDouble() < 0.5 ? Math.abs(keys[i] % 7) : random.nextInt(7);
+        }
+        
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            groups.computeIfAbsent(keys[i], k -> new ArrayList<>()).add(values[i]);
+        }
+        
+        GroupedMajority.Result sequential = engine.aggregate(keys, values);
+        GroupedMajority.Result parallel = engine.aggregateParallel(keys, values, 7);
+        assertEquals(groups.size(), sequential.size());
+        assertEquals(groups.size(), parallel.size());
+        
+        for (Map.Entry<Integer, List<Integer>> group : groups.entrySet()) {
+            int[] column = group.getValue().stream().mapToInt(Integer::intValue).toArray();
+            Integer expected = algorithm.findMajorityElement(column);
+            assertEquals(expected, sequential.majorityFor(group.getKey()), "key " + group.getKey());
+            assertEquals(expected, parallel.majorityFor(group.getKey()), "key " + group.getKey());
+        }
+    }
+    
+    @Test
+    @DisplayName("Tracker records grouped run")
+    void testTracker() {
+        engine.aggregate(new int[] {1, 1, 2}, new int[] {3, 3, 4});
+        var tracker = engine.getPerformanceTracker();
+        assertEquals(3, tracker.getInputSize());
+        assertEquals("grouped", tracker.getInputType());
+        assertTrue(tracker.getArrayAccesses() > 0);
+    }
+}
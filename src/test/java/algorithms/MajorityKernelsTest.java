@@ -0,0 +1,88 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class MajorityKernelsTest {
+    
+    private final BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+    
+    @Test
+    @DisplayName("Untracked kernels agree with the tracked algorithm")
+    void testKernelsAgree() {
+        Random random = new Random(42);
+        for (int test = 0; test < 300; test++) {
+            int[] nums = new int[1 + random.nextInt(300)];
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextInt(3);
+            }
+            Integer expected = algorithm.findMajorityElementNaive(nums);
+            
+            assertEquals(expected, MajorityKernels.majority(nums), "Input: " + Arrays.toString(nums));
+            assertEquals(expected, MajorityKernels.majority(nums, 0));
+            assertEquals(expected, MajorityKernels.majority(nums, 1));
+        }
+    }
+    
+    @Test
+    @DisplayName("Branchless kernels match the branching ones")
+    void testBranchlessKernels() {
+        Random random = new Random(9);
+        for (int test = 0; test < 500; test++) {
+            int[] nums = new int[random.nextInt(64)];
+            int range = test % 2 == 0 ? 3 : Integer.MAX_VALUE;
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextBoolean() ? Integer.MIN_VALUE : random.nextInt(range) - range / 2;
+            }
+            int from = nums.length == 0 ? 0 : random.nextInt(nums.length);
+            
+            assertEquals(MajorityKernels.candidate(nums, from, nums.length),
+                MajorityKernels.candidateBranchless(nums, from, nums.length), "Input: " + Arrays.toString(nums));
+            for (int value : new int[] {Integer.MIN_VALUE, 0, 1, -1}) {
+                assertEquals(MajorityKernels.count(nums, from, nums.length, value),
+                    MajorityKernels.countUnrolled(nums, from, nums.length, value));
+            }
+            assertEquals(algorithm.findMajorityElementNaive(nums), algorithm.findMajorityElementBranchless(nums));
+            assertEquals(MajorityKernels.majority(nums), MajorityKernels.majorityBranchless(nums));
+        }
+    }
+    
+    @Test
+    @DisplayName("Vectorized count matches the scalar count")
+    void testVectorizedCount() {
+        Random random = new Random(11);
+        for (int test = 0; test < 200; test++) {
+            int[] nums = new int[random.nextInt(200)];
+            for (int i = 0; i < nums.length; i++) {
+                nums[i] = random.nextInt(4) - 2;
+            }
+            int from = nums.length == 0 ? 0 : random.nextInt(nums.length);
+            for (int value = -2; value < 2; value++) {
+                assertEquals(MajorityKernels.count(nums, from, nums.length, value),
+                    VectorizedCount.count(nums, from, nums.length, value), VectorizedCount.describe());
+            }
+            assertEquals(algorithm.findMajorityElementNaive(nums), algorithm.findMajorityElementVectorized(nums));
+        }
+    }
+    
+    @Test
+    @DisplayName("Fused pass returns candidate and predicted count")
+    void testFusedPass() {
+        int[] nums = {-1, 2, -1, -1, 5};
+        long fused = MajorityKernels.candidateAndCount(nums, 0, nums.length, 2);
+        assertEquals(-1, (int) (fused >>> 32));
+        assertEquals(1, (int) fused);
+        assertEquals(3, MajorityKernels.count(nums, 0, nums.length, -1));
+    }
+    
+    @Test
+    @DisplayName("Null and empty inputs")
+    void testEmpty() {
+        assertNull(MajorityKernels.majority(null));
+        assertNull(MajorityKernels.majority(new int[0], 7));
+    }
+}
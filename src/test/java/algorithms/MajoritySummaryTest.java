@@ -0,0 +1,260 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class MajoritySummaryTest {
+
+    private final BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+
+    @Nested
+    @DisplayName("Boyer-Moore Summary")
+    class BoyerMooreSummary {
+
+        @Test
+        @DisplayName("Summary of whole array matches the classic candidate")
+        void testSummaryMatchesCandidate() {
+            int[] nums = {1, 2, 1, 3, 1, 4, 1};
+            MajoritySummary summary = MajoritySummary.of(nums);
+
+            assertEquals(Integer.valueOf(1), summary.getCandidate());
+            assertEquals(7, summary.getTotal());
+            assertTrue(summary.isMajority(MajoritySummary.countCandidate(nums, 1)));
+        }
+
+        @Test
+        @DisplayName("Empty summary has no candidate")
+        void testEmptySummary() {
+            MajoritySummary summary = MajoritySummary.of(new int[0]);
+            assertNull(summary.getCandidate());
+            assertFalse(summary.isMajority(0));
+        }
+
+        @Test
+        @DisplayName("Binary round trip preserves state")
+        void testRoundTrip() {
+            MajoritySummary summary = new MajoritySummary(-7, 12, 40);
+            byte[] bytes = summary.toBytes();
+
+            assertEquals(MajoritySummary.ENCODED_SIZE, bytes.length);
+            MajoritySummary decoded = MajoritySummary.fromBytes(bytes);
+            assertEquals(Integer.valueOf(-7), decoded.getCandidate());
+            assertEquals(12, decoded.getCount());
+            assertEquals(40, decoded.getTotal());
+        }
+
+        @Test
+        @DisplayName("Corrupt or future-version payloads are rejected")
+        void testRejectsBadPayloads() {
+            byte[] bytes = new MajoritySummary(1, 1, 1).toBytes();
+
+            byte[] wrongVersion = bytes.clone();
+            wrongVersion[2] = 99;
+            assertThrows(IllegalArgumentException.class, () -> MajoritySummary.fromBytes(wrongVersion));
+
+            byte[] wrongMagic = bytes.clone();
+            wrongMagic[0] = 'X';
+            assertThrows(IllegalArgumentException.class, () -> MajoritySummary.fromBytes(wrongMagic));
+
+            assertThrows(IllegalArgumentException.class,
+                () -> MajoritySummary.fromBytes(Arrays.copyOf(bytes, 10)));
+        }
+
+        @Test
+        @DisplayName("Merging shard summaries in any split agrees with the naive answer")
+        void testMergeAgreesWithNaive() {
+            Random random = new Random(42);
+
+            for (int test = 0; test < 200; test++) {
+                int size = 1 + random.nextInt(200);
+                int[] nums = new int[size];
+                for (int i = 0; i < size; i++) {
+                    nums[i] = random.nextInt(4);
+                }
+
+                int shards = 1 + random.nextInt(6);
+                MajoritySummary merged = new MajoritySummary();
+                for (int s = 0; s < shards; s++) {
+                    int from = (int) ((long) size * s / shards);
+                    int to = (int) ((long) size * (s + 1) / shards);
+                    MajoritySummary shard = new MajoritySummary();
+                    shard.addAll(nums, from, to);
+                    merged.merge(MajoritySummary.fromBytes(shard.toBytes()));
+                }
+
+                Integer result = null;
+                if (merged.hasCandidate()
+                        && merged.isMajority(MajoritySummary.countCandidate(nums, merged.getCandidate()))) {
+                    result = merged.getCandidate();
+                }
+                assertEquals(algorithm.findMajorityElementNaive(nums), result,
+                    "Results differ for input: " + Arrays.toString(nums));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Sharded Protocol")
+    class ShardedProtocol {
+
+        @Test
+        @DisplayName("Worker threads standing in for nodes reach the exact majority")
+        void testTwoRoundProtocolWithThreads() throws Exception {
+            int[][] shards = createShards(8, 5000, 77, 0.55, new Random(7));
+            ExecutorService nodes = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<byte[]>> round1 = new ArrayList<>();
+                for (int[] shard : shards) {
+                    round1.add(nodes.submit(() -> MajoritySummary.of(shard).toBytes()));
+                }
+                MajoritySummary merged = new MajoritySummary();
+                for (Future<byte[]> reply : round1) {
+                    merged.merge(MajoritySummary.fromBytes(reply.get()));
+                }
+
+                int candidate = merged.getCandidate();
+                List<Future<byte[]>> round2 = new ArrayList<>();
+                for (int[] shard : shards) {
+                    round2.add(nodes.submit(() -> MajoritySummary.encodeCandidateCount(candidate,
+                        MajoritySummary.countCandidate(shard, candidate))));
+                }
+                List<byte[]> counts = new ArrayList<>();
+                for (Future<byte[]> reply : round2) {
+                    counts.add(reply.get());
+                }
+
+                assertEquals(Integer.valueOf(77), merged.resolve(counts));
+                assertEquals(40000, merged.getTotal());
+            } finally {
+                nodes.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Second round rejects counts for a different candidate")
+        void testRejectsMismatchedCandidate() {
+            MajoritySummary merged = new MajoritySummary(5, 3, 10);
+            List<byte[]> counts = List.of(MajoritySummary.encodeCandidateCount(6, 9));
+            assertThrows(IllegalArgumentException.class, () -> merged.resolve(counts));
+        }
+
+        @Test
+        @DisplayName("Candidate without true majority resolves to null")
+        void testNoMajorityResolvesToNull() {
+            MajoritySummary merged = MajoritySummary.of(new int[] {1, 2, 1, 2, 3});
+            int candidate = merged.getCandidate();
+            List<byte[]> counts = List.of(MajoritySummary.encodeCandidateCount(candidate,
+                MajoritySummary.countCandidate(new int[] {1, 2, 1, 2, 3}, candidate)));
+            assertNull(merged.resolve(counts));
+        }
+    }
+
+    @Nested
+    @DisplayName("Misra-Gries Summary")
+    class MisraGries {
+
+        @Test
+        @DisplayName("Capacity one behaves like Boyer-Moore")
+        void testCapacityOne() {
+            int[] nums = {2, 2, 1, 1, 1, 2, 2};
+            MisraGriesSummary summary = MisraGriesSummary.of(nums, 1);
+            assertArrayEquals(new int[] {2}, summary.candidates());
+        }
+
+        @Test
+        @DisplayName("Merged shards keep every value above total / (k + 1)")
+        void testMergedHeavyHittersSurvive() {
+            Random random = new Random(11);
+            int[][] shards = new int[5][];
+            long[] exact = new long[50];
+            for (int s = 0; s < shards.length; s++) {
+                shards[s] = new int[2000];
+                for (int i = 0; i < shards[s].length; i++) {
+                    int r = random.nextInt(100);
+                    shards[s][i] = r < 30 ? 1 : r < 50 ? 2 : r < 60 ? 3 : random.nextInt(50);
+                    exact[shards[s][i]]++;
+                }
+            }
+
+            int k = 5;
+            MisraGriesSummary merged = new MisraGriesSummary(k);
+            for (int[] shard : shards) {
+                merged.merge(MisraGriesSummary.fromBytes(MisraGriesSummary.of(shard, k).toBytes()));
+            }
+
+            assertEquals(10000, merged.getTotal());
+            assertTrue(merged.size() <= k);
+            for (int value = 0; value < exact.length; value++) {
+                long estimate = merged.estimatedCount(value);
+                assertTrue(estimate <= exact[value]);
+                assertTrue(exact[value] - estimate <= merged.maxUndercount(),
+                    "Undercount too large for " + value);
+            }
+            for (int heavy : new int[] {1, 2, 3}) {
+                assertTrue(merged.estimatedCount(heavy) > 0);
+            }
+        }
+
+        @Test
+        @DisplayName("Payloads claiming an oversized capacity are rejected before allocating")
+        void testOversizedCapacityRejected() {
+            byte[] bytes = MisraGriesSummary.of(new int[] {4, 4, 5}, 2).toBytes();
+            ByteBuffer.wrap(bytes).putInt(4, Integer.MAX_VALUE);
+            IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> MisraGriesSummary.fromBytes(bytes));
+            assertEquals("Corrupt Misra-Gries summary", error.getMessage());
+
+            ByteBuffer.wrap(bytes).putInt(4, MisraGriesSummary.MAX_CAPACITY);
+            assertEquals(2, MisraGriesSummary.fromBytes(bytes).estimatedCount(4));
+            assertThrows(IllegalArgumentException.class, () -> new MisraGriesSummary(MisraGriesSummary.MAX_CAPACITY + 1));
+        }
+
+        @Test
+        @DisplayName("Overflowing merges leave the summary intact; negative totals are corrupt")
+        void testMergeOverflowAndNegativeTotal() {
+            MisraGriesSummary big = MisraGriesSummary.of(new int[] {1, 1, 2}, 2);
+            byte[] bytes = big.toBytes();
+            ByteBuffer.wrap(bytes).putLong(8, Long.MAX_VALUE);
+            MisraGriesSummary huge = MisraGriesSummary.fromBytes(bytes);
+
+            MisraGriesSummary summary = MisraGriesSummary.of(new int[] {3, 3, 4}, 2);
+            String before = summary.toString();
+            assertThrows(ArithmeticException.class, () -> summary.merge(huge));
+            assertEquals(before, summary.toString());
+
+            ByteBuffer.wrap(bytes).putLong(8, -1);
+            assertThrows(IllegalArgumentException.class, () -> MisraGriesSummary.fromBytes(bytes));
+            byte[] empty = new MisraGriesSummary(2).toBytes();
+            ByteBuffer.wrap(empty).putLong(8, -5);
+            assertThrows(IllegalArgumentException.class, () -> MisraGriesSummary.fromBytes(empty));
+        }
+
+        @Test
+        @DisplayName("Second-round exact counts for candidates")
+        void testCountCandidates() {
+            int[] nums = {1, 2, 3, 1, 2, 1};
+            assertArrayEquals(new long[] {3, 2, 0}, MisraGriesSummary.countCandidates(nums, new int[] {1, 2, 9}));
+        }
+    }
+
+    private int[][] createShards(int shardCount, int shardSize, int majorityValue, double share, Random random) {
+        int[][] shards = new int[shardCount][shardSize];
+        for (int[] shard : shards) {
+            for (int i = 0; i < shardSize; i++) {
+                shard[i] = random.nextDouble() < share ? majorityValue : random.nextInt(1000) + 1000;
+            }
+        }
+        return shards;
+    }
+}
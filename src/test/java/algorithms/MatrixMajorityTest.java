@@ -0,0 +1,82 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+public class MatrixMajorityTest {
+    
+    private final BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+    private final MatrixMajority engine = new MatrixMajority();
+    
+    @Test
+    @DisplayName("Column and row majorities match per-line naive results")
+    void testAgainstNaive() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 50; trial++) {
+            int rows = random.nextInt(40);
+            int cols = random.nextInt(40);
+            int[] flat = new int[rows * cols];
+            int[][] matrix = new int[rows][cols];
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int value = random.nextInt(3) == 0 ? c : random.nextInt(3);
+                    flat[r * cols + c] = value;
+                    matrix[r][c] = value;
+                }
+            }
+            
+            MatrixMajority.Result columns = engine.columns(flat, rows, cols);
+            MatrixMajority.Result columns2d = engine.columns(matrix);
+            MatrixMajority.Result parallel = engine.columnsParallel(flat, rows, cols, 1 + random.nextInt(8));
+            assertEquals(cols, columns.size());
+            for (int c = 0; c < cols; c++) {
+                int[] column = new int[rows];
+                for (int r = 0; r < rows; r++) {
+                    column[r] = matrix[r][c];
+                }
+                Integer expected = reference.findMajorityElementNaive(column);
+                assertEquals(expected, columns.majorityAt(c), "column " + c);
+                assertEquals(expected, columns2d.majorityAt(c));
+                assertEquals(expected, parallel.majorityAt(c));
+            }
+            
+            MatrixMajority.Result rowResult = engine.rows(flat, rows, cols);
+            MatrixMajority.Result rowResult2d = engine.rows(matrix);
+            assertEquals(rows, rowResult.size());
+            for (int r = 0; r < rows; r++) {
+                Integer expected = reference.findMajorityElementNaive(matrix[r]);
+                assertEquals(expected, rowResult.majorityAt(r), "row " + r);
+                assertEquals(expected, rowResult2d.majorityAt(r));
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Counts are exact occurrences of each candidate")
+    void testCounts() {
+        int[] flat = {
+            1, 2, 3,
+            1, 5, 3,
+            1, 2, 4,
+            9, 2, 4
+        };
+        MatrixMajority.Result result = engine.columns(flat, 4, 3);
+        assertArrayEquals(new int[] {1, 2, 3}, result.getCandidates());
+        assertArrayEquals(new int[] {3, 3, 2}, result.getCandidateCounts());
+        assertArrayEquals(new boolean[] {true, true, false}, result.getHasMajority());
+        assertEquals(4, result.getLineLength());
+    }
+    
+    @Test
+    @DisplayName("Shape mismatches are rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> engine.columns(new int[5], 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> engine.columns(new int[][] {{1, 2}, {3}}));
+        assertThrows(IllegalArgumentException.class, () -> engine.rows(new int[][] {{1, 2}, {3}}));
+        assertThrows(IllegalArgumentException.class, () -> engine.columnsParallel(new int[6], 2, 3, 0));
+        assertThrows(IllegalArgumentException.class, () -> engine.rows(null, 0, 0));
+    }
+}
@@ -0,0 +1,118 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class ModeFinderTest {
+    
+    private final BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+    
+    @Test
+    @DisplayName("Majority short-circuits the mode computation")
+    void testMajorityShortCircuit() {
+        ModeFinder.Result result = algorithm.findMajorityOrMode(new int[] {3, 2, 3, 4, 3, 3, 3});
+        assertEquals(Integer.valueOf(3), result.getValue());
+        assertEquals(5, result.getCount());
+        assertTrue(result.isMajority());
+        assertEquals(ModeFinder.Strategy.MAJORITY, result.getStrategy());
+    }
+    
+    @Test
+    @DisplayName("Plurality returned when no majority exists")
+    void testPluralityFallback() {
+        ModeFinder.Result result = algorithm.findMajorityOrMode(new int[] {1, 2, 2, 3, 3, 3, 4, 4});
+        assertEquals(Integer.valueOf(3), result.getValue());
+        assertEquals(3, result.getCount());
+        assertFalse(result.isMajority());
+        assertEquals(ModeFinder.Strategy.COUNTING_ARRAY, result.getStrategy());
+    }
+    
+    @Test
+    @DisplayName("Empty input has no mode")
+    void testEmpty() {
+        assertNull(algorithm.findMajorityOrMode(new int[0]).getValue());
+        assertNull(ModeFinder.mode(null).getValue());
+    }
+    
+    @Test
+    @DisplayName("Strategy selection follows the observed data")
+    void testStrategySelection() {
+        Random random = new Random(1);
+        int[] smallRange = new int[10000];
+        int[] fewDistinctWide = new int[10000];
+        int[] manyDistinctWide = new int[10000];
+        for (int i = 0; i < 10000; i++) {
+            smallRange[i] = random.nextInt(100);
+            fewDistinctWide[i] = random.nextInt(50) * 10_000_000;
+            manyDistinctWide[i] = random.nextInt();
+        }
+        
+        assertEquals(ModeFinder.Strategy.COUNTING_ARRAY, ModeFinder.mode(smallRange).getStrategy());
+        assertEquals(ModeFinder.Strategy.HASH_TABLE, ModeFinder.mode(fewDistinctWide).getStrategy());
+        assertEquals(ModeFinder.Strategy.RADIX_SORT, ModeFinder.mode(manyDistinctWide).getStrategy());
+    }
+    
+    @Test
+    @DisplayName("All strategies agree with a boxed HashMap count, ties to smallest value")
+    void testStrategiesAgree() {
+        Random random = new Random(42);
+        ModeFinder.Strategy[] strategies = {
+            ModeFinder.Strategy.COUNTING_ARRAY, ModeFinder.Strategy.HASH_TABLE, ModeFinder.Strategy.RADIX_SORT
+        };
+        
+        for (int test = 0; test < 200; test++) {
+            int size = 1 + random.nextInt(2000);
+            int spread = 1 + random.nextInt(500);
+            int[] nums = new int[size];
+            for (int i = 0; i < size; i++) {
+                nums[i] = random.nextInt(spread) - spread / 2;
+            }
+            
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (int value : nums) {
+                counts.merge(value, 1, Integer::sum);
+            }
+            int expectedValue = 0;
+            int expectedCount = 0;
+            for (Map.Entry<Integer, Integer> e : counts.entrySet()) {
+                if (e.getValue() > expectedCount || (e.getValue() == expectedCount && e.getKey() < expectedValue)) {
+                    expectedValue = e.getKey();
+                    expectedCount = e.getValue();
+                }
+            }
+            
+            for (ModeFinder.Strategy strategy : strategies) {
+                ModeFinder.Result result = ModeFinder.mode(nums, strategy);
+                assertEquals(Integer.valueOf(expectedValue), result.getValue(),
+                    strategy + " differs for input: " + Arrays.toString(nums));
+                assertEquals(expectedCount, result.getCount());
+            }
+            assertEquals(Integer.valueOf(expectedValue), algorithm.findMajorityOrMode(nums).getValue());
+        }
+    }
+    
+    @Test
+    @DisplayName("Radix sort orders extreme signed values")
+    void testRadixSortSignedOrder() {
+        Random random = new Random(3);
+        int[] nums = new int[5000];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt();
+        }
+        nums[0] = Integer.MIN_VALUE;
+        nums[1] = Integer.MAX_VALUE;
+        nums[2] = -1;
+        nums[3] = 0;
+        
+        int[] expected = nums.clone();
+        Arrays.sort(expected);
+        ModeFinder.americanFlagSort(nums, 0, nums.length, 24);
+        assertArrayEquals(expected, nums);
+    }
+}
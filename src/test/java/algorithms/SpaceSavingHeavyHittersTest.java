@@ -0,0 +1,93 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class SpaceSavingHeavyHittersTest {
+    
+    @Test
+    @DisplayName("Exact counts while under capacity")
+    void testExactUnderCapacity() {
+        SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(4);
+        summary.offer(new int[] {3, 1, 3, 2, 3, 1});
+        
+        List<SpaceSavingHeavyHitters.Entry> top = summary.topK(2);
+        assertEquals(3, top.get(0).value);
+        assertEquals(3, top.get(0).count);
+        assertEquals(0, top.get(0).error);
+        assertEquals(1, top.get(1).value);
+        assertEquals(2, top.get(1).count);
+        assertEquals(0, summary.estimate(9));
+    }
+    
+    @Test
+    @DisplayName("Invalid capacity is rejected")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingHeavyHitters(0));
+    }
+    
+    @Test
+    @DisplayName("Error bounds hold on a skewed stream")
+    void testErrorBounds() {
+        Random random = new Random(42);
+        int k = 20;
+        SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(k);
+        Map<Integer, Long> exact = new HashMap<>();
+        int[] chunk = new int[1000];
+        
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < chunk.length; i++) {
+                int r = random.nextInt(100);
+                chunk[i] = r < 20 ? 1 : r < 35 ? 2 : r < 45 ? 3 : random.nextInt(5000);
+                exact.merge(chunk[i], 1L, Long::sum);
+            }
+            summary.offer(chunk, 0, chunk.length);
+        }
+        
+        assertEquals(50000, summary.getTotal());
+        assertEquals(k, summary.size());
+        
+        List<SpaceSavingHeavyHitters.Entry> entries = summary.topK();
+        long countSum = 0;
+        for (SpaceSavingHeavyHitters.Entry entry : entries) {
+            long truth = exact.getOrDefault(entry.value, 0L);
+            assertTrue(entry.guaranteedCount() <= truth, entry.toString());
+            assertTrue(truth <= entry.count, entry.toString());
+            assertTrue(entry.error <= summary.getTotal() / k);
+            countSum += entry.count;
+        }
+        assertEquals(summary.getTotal(), countSum);
+        
+        for (int i = 1; i < entries.size(); i++) {
+            assertTrue(entries.get(i - 1).count >= entries.get(i).count);
+        }
+        
+        assertEquals(1, entries.get(0).value);
+        assertEquals(2, entries.get(1).value);
+        assertEquals(3, entries.get(2).value);
+        for (Map.Entry<Integer, Long> e : exact.entrySet()) {
+            if (e.getValue() > summary.getTotal() / k) {
+                assertTrue(summary.estimate(e.getKey()) >= e.getValue());
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Capacity one keeps the most recent value")
+    void testCapacityOne() {
+        SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(1);
+        summary.offer(new int[] {5, 5, 6});
+        
+        List<SpaceSavingHeavyHitters.Entry> top = summary.topK();
+        assertEquals(1, top.size());
+        assertEquals(6, top.get(0).value);
+        assertEquals(3, top.get(0).count);
+        assertEquals(2, top.get(0).error);
+    }
+}
@@ -0,0 +1,140 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class WeightedMajorityVoteTest {
+
+    private final WeightedMajorityVote engine = new WeightedMajorityVote();
+
+    @Test
+    @DisplayName("Weighted majority matches a naive weight tally")
+    void testAgreementWithNaive() {
+        Random random = new Random(41);
+        for (int trial = 0; trial < 300; trial++) {
+            int n = random.nextInt(400);
+            int[] values = new int[n];
+            long[] weights = new long[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(4);
+                weights[i] = random.nextInt(8) == 0 ? 0 : 1 + random.nextInt(trial % 2 == 0 ? 10 : 1_000_000);
+                if (values[i] == 3 && trial % 3 == 0) {
+                    weights[i] *= 8;
+                }
+            }
+            Integer expected = naive(values, weights);
+            assertEquals(expected, engine.findMajorityElement(values, weights), "trial " + trial);
+            assertEquals(expected, engine.findMajorityElementParallel(values, weights), "parallel trial " + trial);
+        }
+    }
+
+    @Test
+    @DisplayName("Unit weights reduce to the unweighted vote; one heavy event can outweigh many")
+    void testWeightSemantics() {
+        int[] values = {1, 2, 2, 3, 2};
+        long[] ones = new long[values.length];
+        Arrays.fill(ones, 1);
+        assertEquals(Integer.valueOf(2), engine.findMajorityElement(values, ones));
+
+        long[] heavy = {10, 1, 1, 1, 1};
+        assertEquals(Integer.valueOf(1), engine.findMajorityElement(values, heavy));
+
+        long[] tie = {3, 1, 1, 0, 1};
+        assertNull(engine.findMajorityElement(values, tie));
+        assertEquals(5, engine.getPerformanceTracker().getInputSize());
+    }
+
+    @Test
+    @DisplayName("Parallel path merges chunk summaries across chunk boundaries")
+    void testParallelLargeInput() {
+        Random random = new Random(43);
+        int n = 3 * WeightedMajorityVote.PARALLEL_CHUNK + 17;
+        int[] values = new int[n];
+        long[] weights = new long[n];
+        for (int i = 0; i < n; i++) {
+            boolean favourite = i < n / 3;
+            values[i] = favourite ? 99 : random.nextInt(1000);
+            weights[i] = favourite ? 4 : 1 + random.nextInt(2);
+        }
+        assertEquals(naive(values, weights), engine.findMajorityElementParallel(values, weights));
+        assertEquals(Integer.valueOf(99), engine.findMajorityElement(values, weights));
+    }
+
+    @Test
+    @DisplayName("Chunked streaming form votes, then verifies on replay")
+    void testAccumulator() {
+        Random random = new Random(47);
+        int n = 10_000;
+        int[] values = new int[n];
+        long[] weights = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(3) == 0 ? 5 : random.nextInt(50);
+            weights[i] = values[i] == 5 ? 4 + random.nextInt(4) : 1 + random.nextInt(3);
+        }
+        WeightedMajorityVote.Accumulator accumulator = new WeightedMajorityVote.Accumulator();
+        for (int from = 0; from < n; from += 777) {
+            accumulator.add(values, weights, from, Math.min(n, from + 777));
+        }
+        assertEquals(Integer.valueOf(5), accumulator.candidate());
+        assertThrows(IllegalStateException.class, accumulator::result);
+        for (int from = 0; from < n; from += 1000) {
+            accumulator.verify(values, weights, from, Math.min(n, from + 1000));
+        }
+        assertEquals(naive(values, weights), accumulator.result());
+        assertEquals(Arrays.stream(weights).sum(), accumulator.summary().getTotal());
+    }
+
+    @Test
+    @DisplayName("Interleaving add() and verify() is rejected instead of mixing candidates")
+    void testAccumulatorInterleaving() {
+        WeightedMajorityVote.Accumulator accumulator = new WeightedMajorityVote.Accumulator();
+        accumulator.add(new int[] {1}, new long[] {3}, 0, 1);
+        accumulator.verify(new int[] {1}, new long[] {3}, 0, 1);
+        assertThrows(IllegalStateException.class, () -> accumulator.add(new int[] {2}, new long[] {4}, 0, 1));
+        assertEquals(Integer.valueOf(1), accumulator.candidate());
+        assertEquals(Integer.valueOf(1), accumulator.result());
+
+        WeightedMajorityVote.Accumulator negative = new WeightedMajorityVote.Accumulator();
+        negative.add(new int[] {1, 2}, new long[] {3, 1}, 0, 2);
+        assertThrows(IllegalArgumentException.class,
+            () -> negative.verify(new int[] {1, 2}, new long[] {3, -1}, 0, 2));
+    }
+
+    @Test
+    @DisplayName("Overflowing totals, negative weights and mismatched arrays are rejected")
+    void testInvalidInput() {
+        assertThrows(ArithmeticException.class,
+            () -> engine.findMajorityElement(new int[] {1, 2}, new long[] {Long.MAX_VALUE, 1}));
+        assertThrows(ArithmeticException.class,
+            () -> engine.findMajorityElementParallel(new int[] {1, 1}, new long[] {Long.MAX_VALUE, Long.MAX_VALUE}));
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.findMajorityElement(new int[] {1, 2}, new long[] {1, -1}));
+        assertThrows(IllegalArgumentException.class,
+            () -> engine.findMajorityElement(new int[] {1, 2}, new long[] {1}));
+        assertEquals(Integer.valueOf(4),
+            engine.findMajorityElement(new int[] {4, 2}, new long[] {Long.MAX_VALUE - 1, 1}));
+        assertNull(engine.findMajorityElement(new int[0], new long[0]));
+        assertNull(engine.findMajorityElement(new int[] {1, 2}, new long[] {0, 0}));
+    }
+
+    private static Integer naive(int[] values, long[] weights) {
+        Map<Integer, Long> totals = new HashMap<>();
+        long total = 0;
+        for (int i = 0; i < values.length; i++) {
+            totals.merge(values[i], weights[i], Long::sum);
+            total += weights[i];
+        }
+        for (Map.Entry<Integer, Long> entry : totals.entrySet()) {
+            if (entry.getValue() > total - entry.getValue()) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+}
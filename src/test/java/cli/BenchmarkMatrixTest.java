@@ -0,0 +1,142 @@
+package cli;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+public class BenchmarkMatrixTest {
+
+    @Test
+    @DisplayName("Defaults cover every distribution and variant at three sizes")
+    void testDefaults() {
+        List<BenchmarkMatrix.Cell> cells = new BenchmarkMatrix(new Properties()).cells();
+        assertEquals(3 * BenchmarkRunner.getInputTypes().length * BenchmarkRunner.getVariants().length,
+            cells.size());
+        BenchmarkMatrix.Cell first = cells.get(0);
+        assertEquals(1000, first.size);
+        assertEquals("default", first.flags);
+        assertTrue(first.flagList().isEmpty());
+        assertEquals(first.variant, first.label());
+    }
+
+    @Test
+    @DisplayName("Lists are trimmed, empty entries skipped, flag sets split on '|'")
+    void testListParsing() {
+        Properties config = new Properties();
+        config.setProperty("sizes", " 8 ,, 16 ");
+        config.setProperty("distributions", "random, sorted");
+        config.setProperty("variants", "boyer-moore");
+        config.setProperty("jvmFlags", "default | -XX:-TieredCompilation -Xmx1g");
+        List<BenchmarkMatrix.Cell> cells = new BenchmarkMatrix(config).cells();
+
+        assertEquals(2 * 2 * 2, cells.size());
+        BenchmarkMatrix.Cell flagged = cells.get(cells.size() - 1);
+        assertEquals(Arrays.asList("-XX:-TieredCompilation", "-Xmx1g"), flagged.flagList());
+        assertEquals("boyer-moore -XX:-TieredCompilation -Xmx1g", flagged.label());
+    }
+
+    @Test
+    @DisplayName("Cells nest flags, then size, then distribution, then variant")
+    void testCellOrder() {
+        Properties config = new Properties();
+        config.setProperty("sizes", "4,8");
+        config.setProperty("distributions", "random,sorted");
+        config.setProperty("variants", "boyer-moore,parallel");
+        config.setProperty("jvmFlags", "default|-Xint");
+        List<BenchmarkMatrix.Cell> cells = new BenchmarkMatrix(config).cells();
+
+        assertEquals(16, cells.size());
+        assertEquals("4/random/boyer-moore/default", key(cells.get(0)));
+        assertEquals("4/random/parallel/default", key(cells.get(1)));
+        assertEquals("4/sorted/boyer-moore/default", key(cells.get(2)));
+        assertEquals("8/random/boyer-moore/default", key(cells.get(4)));
+        assertEquals("4/random/boyer-moore/-Xint", key(cells.get(8)));
+        assertEquals("8/sorted/parallel/-Xint", key(cells.get(15)));
+    }
+
+    @Test
+    @DisplayName("Bad values are rejected when the config is loaded")
+    void testInvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> matrix("sizes", "abc"));
+        assertThrows(IllegalArgumentException.class, () -> matrix("sizes", "3"));
+        assertThrows(IllegalArgumentException.class, () -> matrix("sizes", " , "));
+        assertThrows(IllegalArgumentException.class, () -> matrix("distributions", "gaussian"));
+        assertThrows(IllegalArgumentException.class, () -> matrix("variants", "quantum"));
+        assertThrows(IllegalArgumentException.class, () -> matrix("repetitions", "0"));
+        assertThrows(IllegalArgumentException.class, () -> matrix("parallelForks", "0"));
+        assertThrows(IllegalArgumentException.class, () -> matrix("timeoutSeconds", "0"));
+        assertDoesNotThrow(() -> matrix("sizes", "4"));
+    }
+
+    @Test
+    @DisplayName("CPU lists parse ranges and single cores")
+    void testParseCpuList() {
+        assertEquals(Arrays.asList(0, 1, 2, 3, 6, 8, 9), BenchmarkMatrix.parseCpuList(" 0-3,6,8-9\n"));
+        assertEquals(Collections.singletonList(5), BenchmarkMatrix.parseCpuList("5"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkMatrix.parseCpuList("4-2"));
+    }
+
+    @Test
+    @DisplayName("Core picking gives one distinct allowed core per worker, never more workers than cores")
+    void testPickCores() {
+        List<Integer> allowed = Arrays.asList(3, 0, 2, 1);
+        assertArrayEquals(new int[] {1, 2}, BenchmarkMatrix.pickCores(allowed, 2));
+        assertArrayEquals(new int[] {1, 2, 3}, BenchmarkMatrix.pickCores(allowed, 3));
+        assertArrayEquals(new int[] {0, 1, 2, 3}, BenchmarkMatrix.pickCores(allowed, 4));
+        assertArrayEquals(new int[] {0, 1, 2, 3}, BenchmarkMatrix.pickCores(allowed, 8));
+        assertArrayEquals(new int[] {5}, BenchmarkMatrix.pickCores(Collections.singletonList(5), 3));
+        assertArrayEquals(new int[] {6, 7}, BenchmarkMatrix.pickCores(Arrays.asList(4, 6, 7), 2));
+        assertEquals(0, BenchmarkMatrix.pickCores(Collections.emptyList(), 2).length);
+    }
+
+    @Test
+    @DisplayName("Aggregate CSV has one row per result, tagged with variant and flags")
+    void testWriteAggregate(@TempDir Path dir) throws Exception {
+        List<BenchmarkMatrix.Cell> cells = Arrays.asList(
+            new BenchmarkMatrix.Cell(100, "random", "optimized", "default"),
+            new BenchmarkMatrix.Cell(200, "sorted", "parallel", "-Xmx1g -XX:CICompilerCount=2,3"));
+        List<List<PerformanceTracker.PerformanceResult>> results = Arrays.asList(
+            Arrays.asList(
+                new PerformanceTracker.PerformanceResult("optimized", 100, "random", 1, 2, 3, 4, 5, 6, 7),
+                new PerformanceTracker.PerformanceResult("optimized", 100, "random", 8, 9, 10, 11, 12, 13, 14)),
+            Collections.singletonList(
+                new PerformanceTracker.PerformanceResult("parallel", 200, "sorted", 15, 16, 17, 18, 19, 20, 21)));
+        Path csv = dir.resolve("matrix.csv");
+        BenchmarkMatrix.writeAggregate(cells, results, csv.toString());
+
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(4, lines.size());
+        assertEquals("Algorithm,Variant,JvmFlags,InputSize,InputType,ArrayAccesses,Comparisons,"
+            + "MemoryAllocations,ExecutionTimeNs,AllocatedBytes,GcCount,GcTimeMs", lines.get(0));
+        assertEquals("optimized,optimized,default,100,random,1,2,3,4,5,6,7", lines.get(1));
+        assertEquals("optimized,optimized,default,100,random,8,9,10,11,12,13,14", lines.get(2));
+        assertEquals("parallel -Xmx1g -XX:CICompilerCount=2;3,parallel,-Xmx1g -XX:CICompilerCount=2;3,"
+            + "200,sorted,15,16,17,18,19,20,21", lines.get(3));
+    }
+
+    @Test
+    @DisplayName("A forked cell rejects sizes the data generators cannot produce")
+    void testCellRejectsTinySize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new BenchmarkRunner().runCell(3, "random", "boyer-moore", 1, "unused.csv"));
+    }
+
+    private static BenchmarkMatrix matrix(String key, String value) {
+        Properties config = new Properties();
+        config.setProperty(key, value);
+        return new BenchmarkMatrix(config);
+    }
+
+    private static String key(BenchmarkMatrix.Cell cell) {
+        return cell.size + "/" + cell.distribution + "/" + cell.variant + "/" + cell.flags;
+    }
+}
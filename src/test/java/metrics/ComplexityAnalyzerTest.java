@@ -0,0 +1,153 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ComplexityAnalyzerTest {
+
+    private static final double[] SIZES = {1_000, 2_000, 4_000, 8_000, 16_000, 32_000, 64_000, 128_000, 256_000};
+
+    @Test
+    @DisplayName("Clean n, n log n and n^2 series select their own model")
+    void testBestFit() {
+        assertEquals(ComplexityAnalyzer.Model.LINEAR, fitOf(ComplexityAnalyzer.Model.LINEAR).model);
+        assertEquals(ComplexityAnalyzer.Model.LINEARITHMIC, fitOf(ComplexityAnalyzer.Model.LINEARITHMIC).model);
+        assertEquals(ComplexityAnalyzer.Model.QUADRATIC, fitOf(ComplexityAnalyzer.Model.QUADRATIC).model);
+
+        ComplexityAnalyzer.Fit linear = fitOf(ComplexityAnalyzer.Model.LINEAR);
+        assertEquals(3.0, linear.coefficient, 1e-9);
+        assertEquals(0.0, linear.relativeError, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Log-log slope is about 1 for linear and 2 for quadratic data")
+    void testLogLogSlope() {
+        assertEquals(1.0, ComplexityAnalyzer.logLogSlope(SIZES, series(ComplexityAnalyzer.Model.LINEAR)), 1e-9);
+        assertEquals(2.0, ComplexityAnalyzer.logLogSlope(SIZES, series(ComplexityAnalyzer.Model.QUADRATIC)), 1e-9);
+        double linearithmic = ComplexityAnalyzer.logLogSlope(SIZES, series(ComplexityAnalyzer.Model.LINEARITHMIC));
+        assertTrue(linearithmic > 1.0 && linearithmic < 1.15, "n log n slope " + linearithmic);
+        assertTrue(Double.isNaN(ComplexityAnalyzer.logLogSlope(new double[] {10}, new double[] {5})));
+    }
+
+    @Test
+    @DisplayName("A step in ns per element is reported as a cliff; smooth series have none")
+    void testCliffDetection() {
+        List<PerformanceTracker.PerformanceResult> results = new ArrayList<>();
+        for (double size : SIZES) {
+            // 1 ns per element in cache, 2.5 ns once the array outgrows it.
+            long time = (long) (size * (size <= 16_000 ? 1.0 : 2.5));
+            for (int repetition = 0; repetition < 3; repetition++) {
+                results.add(result("stepped", (long) size, time));
+                results.add(result("smooth", (long) size, (long) size * 2));
+            }
+        }
+        List<ComplexityAnalyzer.SeriesReport> reports = new ComplexityAnalyzer().analyze(results);
+        assertEquals(2, reports.size());
+
+        ComplexityAnalyzer.SeriesReport stepped = reports.get(0);
+        assertEquals("stepped", stepped.algorithm);
+        assertEquals(1, stepped.getCliffs().size());
+        ComplexityAnalyzer.Cliff cliff = stepped.getCliffs().get(0);
+        assertEquals(16_000, cliff.fromSize);
+        assertEquals(32_000, cliff.toSize);
+        assertEquals(1.0, cliff.nsPerElementBefore, 1e-9);
+        assertEquals(2.5, cliff.nsPerElementAfter, 1e-9);
+
+        ComplexityAnalyzer.SeriesReport smooth = reports.get(1);
+        assertTrue(smooth.getCliffs().isEmpty());
+        assertFalse(smooth.isNonlinear());
+        assertEquals(ComplexityAnalyzer.Model.LINEAR, smooth.getTimeFit().model);
+
+        String json = ComplexityAnalyzer.toJson(reports);
+        assertTrue(json.contains("\"algorithm\": \"stepped\""));
+        assertTrue(json.contains("\"fromSize\": 16000, \"toSize\": 32000"));
+        assertTrue(json.contains("\"model\": \"n\""));
+    }
+
+    @Test
+    @DisplayName("Cliffs beyond Integer.MAX_VALUE elements keep their sizes")
+    void testCliffAboveIntRange() {
+        double[] sizes = {1L << 30, 1L << 31, 1L << 32};
+        double[] times = {sizes[0], sizes[1], sizes[2] * 3};
+        ComplexityAnalyzer.SeriesReport report = new ComplexityAnalyzer()
+            .analyzeSeries("big", "random", sizes, times, times);
+        assertEquals(1, report.getCliffs().size());
+        assertEquals(1L << 31, report.getCliffs().get(0).fromSize);
+        assertEquals(1L << 32, report.getCliffs().get(0).toSize);
+    }
+
+    @Test
+    @DisplayName("Quadratic time is flagged nonlinear")
+    void testNonlinearFlag() {
+        double[] quadratic = series(ComplexityAnalyzer.Model.QUADRATIC);
+        ComplexityAnalyzer.SeriesReport report = new ComplexityAnalyzer()
+            .analyzeSeries("quadratic", "random", SIZES, quadratic, series(ComplexityAnalyzer.Model.LINEAR));
+        assertTrue(report.isNonlinear());
+        assertEquals(ComplexityAnalyzer.Model.QUADRATIC, report.getTimeFit().model);
+        assertEquals(ComplexityAnalyzer.Model.LINEAR, report.getAccessFit().model);
+        assertEquals(1.0, report.getAccessSlope(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("A CSV written by exportToCSV reads back with every column")
+    void testCsvRoundTrip(@TempDir Path dir) throws IOException {
+        List<PerformanceTracker.PerformanceResult> written = Arrays.asList(
+            new PerformanceTracker.PerformanceResult("Boyer-Moore", 1000, "random", 2000, 1500, 3, 4567, 1024, 2, 9),
+            new PerformanceTracker.PerformanceResult("Boyer-Moore", 4000, "sorted", 8000, 6000, 0, 9876, 0, 0, 0));
+        Path csv = dir.resolve("results.csv");
+        PerformanceTracker.exportToCSV(csv.toString(), written);
+
+        List<PerformanceTracker.PerformanceResult> read = ComplexityAnalyzer.readCsv(csv.toString());
+        assertEquals(written.size(), read.size());
+        for (int i = 0; i < written.size(); i++) {
+            assertEquals(written.get(i).toString(), read.get(i).toString());
+            assertEquals(written.get(i).comparisons, read.get(i).comparisons);
+            assertEquals(written.get(i).memoryAllocations, read.get(i).memoryAllocations);
+            assertEquals(written.get(i).allocatedBytes, read.get(i).allocatedBytes);
+            assertEquals(written.get(i).gcCount, read.get(i).gcCount);
+            assertEquals(written.get(i).gcTimeMs, read.get(i).gcTimeMs);
+        }
+    }
+
+    @Test
+    @DisplayName("Older CSVs without the new columns read as zeros; missing required columns fail")
+    void testCsvCompatibility(@TempDir Path dir) throws IOException {
+        Path old = dir.resolve("old.csv");
+        Files.write(old, Arrays.asList("Algorithm,InputSize,InputType,ArrayAccesses,ExecutionTimeNs",
+            "Boyer-Moore,1000,random,2000,4567", ""));
+        List<PerformanceTracker.PerformanceResult> read = ComplexityAnalyzer.readCsv(old.toString());
+        assertEquals(1, read.size());
+        assertEquals(4567, read.get(0).executionTimeNs);
+        assertEquals(0, read.get(0).allocatedBytes);
+        assertEquals(0, read.get(0).gcCount);
+
+        Path broken = dir.resolve("broken.csv");
+        Files.write(broken, Arrays.asList("Algorithm,InputSize,InputType", "Boyer-Moore,1000,random"));
+        assertThrows(IOException.class, () -> ComplexityAnalyzer.readCsv(broken.toString()));
+    }
+
+    private static ComplexityAnalyzer.Fit fitOf(ComplexityAnalyzer.Model model) {
+        return ComplexityAnalyzer.bestFit(SIZES, series(model));
+    }
+
+    private static double[] series(ComplexityAnalyzer.Model model) {
+        double[] values = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            values[i] = 3.0 * model.apply(SIZES[i]);
+        }
+        return values;
+    }
+
+    private static PerformanceTracker.PerformanceResult result(String algorithm, long size, long timeNs) {
+        return new PerformanceTracker.PerformanceResult(algorithm, size, "random", 2 * size, size, 0, timeNs);
+    }
+}